@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import static com.vmilea.gdx.flare.Actions.delay;
+import static com.vmilea.gdx.flare.Actions.ease;
+import static com.vmilea.gdx.flare.Actions.moveXBy;
+import static com.vmilea.gdx.flare.Actions.moveXTo;
+import static com.vmilea.gdx.flare.Actions.moveYBy;
+import static com.vmilea.gdx.flare.Actions.prl;
+import static com.vmilea.gdx.flare.Actions.repeatForever;
+import static com.vmilea.gdx.flare.Actions.rotateBy;
+import static com.vmilea.gdx.flare.Actions.seq;
+import static com.vmilea.gdx.flare.Actions.tseq;
+import static com.vmilea.gdx.flare.Actions.tweenColorTo;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.vmilea.gdx.flare.AbstractAction;
+import com.vmilea.gdx.flare.tween.Easings;
+
+// One benchmark op is one frame: act(FRAME_DT) on each of 'count' independent action trees.
+// Trees that finish are restarted in place, so the measurement is steady-state and includes
+// the restore/pin cost that real scenes pay when a short animation is replayed.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ActionBenchmark {
+
+	public static final float FRAME_DT = 1 / 60f;
+
+	public enum Kind {
+		SEQUENCE {
+			@Override
+			AbstractAction make() {
+				return seq(moveXBy(10, 0.5f), delay(0.25f), moveXBy(-10, 0.5f));
+			}
+		},
+		PARALLEL {
+			@Override
+			AbstractAction make() {
+				return prl(moveXBy(10, 1), moveYBy(10, 0.75f), rotateBy(90, 0.5f));
+			}
+		},
+		TWEEN_SEQUENCE {
+			@Override
+			AbstractAction make() {
+				return tseq(moveXBy(10, 0.25f), moveYBy(10, 0.25f), moveXBy(-10, 0.25f), moveYBy(-10, 0.25f));
+			}
+		},
+		TWEEN_FLOAT_TO {
+			@Override
+			AbstractAction make() {
+				return moveXTo(100, 1);
+			}
+		},
+		TWEEN_COLOR_TO {
+			@Override
+			AbstractAction make() {
+				return tweenColorTo(0.5f, 0.25f, 1, 0.75f, 1);
+			}
+		},
+		REPEAT {
+			@Override
+			AbstractAction make() {
+				return repeatForever(seq(moveXBy(10, 0.5f), moveXBy(-10, 0.5f)));
+			}
+		},
+		EASE {
+			@Override
+			AbstractAction make() {
+				return ease(seq(moveXBy(10, 0.5f), moveXBy(-10, 0.5f)), Easings.easeInOutQuad);
+			}
+		};
+
+		abstract AbstractAction make();
+	}
+
+	@Param({ "1000", "10000", "100000" })
+	public int count;
+
+	@Param
+	public Kind kind;
+
+	private Actor[] actors;
+	private AbstractAction[] actions;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Headless.init();
+
+		Random random = new Random(42);
+		actors = new Actor[count];
+		actions = new AbstractAction[count];
+
+		for (int i = 0; i < count; i++) {
+			Actor actor = new Actor();
+			AbstractAction action = kind.make();
+			action.startOn(actor);
+
+			// spread completions over frames instead of having all trees restart together
+			if (action.act(random.nextFloat()))
+				action.restart();
+
+			actors[i] = actor;
+			actions[i] = action;
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		for (int i = 0; i < count; i++) {
+			actors[i].removeAction(actions[i]); // returns the tree to the pools
+		}
+		actors = null;
+		actions = null;
+	}
+
+	@Benchmark
+	public int frame() {
+		AbstractAction[] actions = this.actions;
+		int restarted = 0;
+
+		for (int i = 0, n = actions.length; i < n; i++) {
+			AbstractAction action = actions[i];
+
+			if (action.act(FRAME_DT)) {
+				action.restart();
+				restarted++;
+			}
+		}
+		return restarted;
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import static com.vmilea.gdx.flare.Actions.delayUntil;
+import static com.vmilea.gdx.flare.Actions.fadeIn;
+import static com.vmilea.gdx.flare.Actions.seq;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.Predicate;
+import com.vmilea.gdx.flare.AbstractAction;
+import com.vmilea.gdx.flare.Latch;
+
+// One frame over 'count' UI sequences gated on resources that haven't loaded yet. PREDICATE
+// polls a loaded-set lookup every frame, SIGNAL waits on a Latch per resource.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AwaitBenchmark {
+
+	public static final float FRAME_DT = 1 / 60f;
+	public static final int RESOURCES = 64;
+
+	public enum Mode {
+		PREDICATE, SIGNAL
+	}
+
+	@Param({ "1000", "10000" })
+	public int count;
+
+	@Param
+	public Mode mode;
+
+	private Group root;
+	private final ObjectSet<String> loaded = new ObjectSet<String>();
+
+	private final Predicate<String> isLoaded = new Predicate<String>() {
+		@Override
+		public boolean evaluate(String path) {
+			return loaded.contains(path);
+		}
+	};
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Headless.init();
+
+		root = new Group();
+		Latch[] latches = new Latch[RESOURCES];
+		for (int i = 0; i < RESOURCES; i++) {
+			latches[i] = new Latch();
+			loaded.add("other/" + i);
+		}
+
+		for (int i = 0; i < count; i++) {
+			Actor actor = new Actor();
+			root.addActor(actor);
+
+			int resource = i % RESOURCES;
+			AbstractAction gate = (mode == Mode.PREDICATE
+					? delayUntil(isLoaded, "textures/" + resource)
+					: delayUntil(latches[resource]));
+			seq(gate, fadeIn(0.25f)).startOn(actor);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		root.clear();
+	}
+
+	@Benchmark
+	public Group frame() {
+		root.act(FRAME_DT);
+		return root;
+	}
+}
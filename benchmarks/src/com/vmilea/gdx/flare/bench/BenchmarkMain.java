@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Entry point of benchmarks.jar. Same arguments as the stock JMH launcher, but attaches the
+// GC profiler unless other profilers are requested, so every run reports allocated bytes per
+// frame (gc.alloc.rate.norm) next to ns/op.
+//
+public final class BenchmarkMain {
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cmdOptions = new CommandLineOptions(args);
+
+		if (cmdOptions.shouldHelp() || cmdOptions.shouldList() || cmdOptions.shouldListWithParams()
+				|| cmdOptions.shouldListProfilers() || cmdOptions.shouldListResultFormats()) {
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions);
+		if (cmdOptions.getProfilers().isEmpty())
+			builder.addProfiler(GCProfiler.class);
+
+		new Runner(builder.build()).run();
+	}
+
+	private BenchmarkMain() { // sealed
+	}
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.vmilea.gdx.flare.tween.CubicBezierEasing;
+import com.vmilea.gdx.flare.tween.Easing;
+import com.vmilea.gdx.flare.tween.Easings;
+import com.vmilea.gdx.flare.tween.TabledEasing;
+
+// One frame of 'count' distinct designer curves, each evaluated at its own ratio. ANALYTIC is the
+// baseline of a fixed curve from Easings; BEZIER solves each curve; FLAT_BEZIER uses curves with
+// x1 = 1 or x2 = 0, which fall back to bisection; TABLED samples each curve up front.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BezierEasingBenchmark {
+
+	public enum Kind {
+		ANALYTIC, BEZIER, FLAT_BEZIER, TABLED
+	}
+
+	@Param({ "500" })
+	public int count;
+
+	@Param
+	public Kind kind;
+
+	private Easing[] easings;
+	private float[] ratios;
+	private float time;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		MathUtils.random.setSeed(1);
+
+		easings = new Easing[count];
+		ratios = new float[count];
+		for (int i = 0; i < count; i++) {
+			float x1 = MathUtils.random();
+			float x2 = MathUtils.random();
+			if (kind == Kind.FLAT_BEZIER) {
+				x1 = 1;
+				x2 = 0;
+			}
+			CubicBezierEasing bezier = new CubicBezierEasing(x1, MathUtils.random(-0.5f, 1.5f), x2,
+					MathUtils.random(-0.5f, 1.5f));
+
+			switch (kind) {
+			case ANALYTIC:
+				easings[i] = Easings.easeInOutCubic;
+				break;
+			case BEZIER:
+			case FLAT_BEZIER:
+				easings[i] = bezier;
+				break;
+			case TABLED:
+				easings[i] = new TabledEasing(bezier);
+				break;
+			}
+			ratios[i] = MathUtils.random();
+		}
+	}
+
+	@Benchmark
+	public float frame() {
+		time += 1 / 60f;
+		if (time >= 1)
+			time -= 1;
+
+		float sum = 0;
+		for (int i = 0; i < count; i++) {
+			float ratio = ratios[i] + time;
+			sum += easings[i].get(ratio >= 1 ? ratio - 1 : ratio);
+		}
+		return sum;
+	}
+}
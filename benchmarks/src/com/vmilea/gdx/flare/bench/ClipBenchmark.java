@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.vmilea.gdx.flare.actor.FloatActorProperty;
+import com.vmilea.gdx.flare.clip.Clip;
+import com.vmilea.gdx.flare.clip.ClipLibrary;
+import com.vmilea.gdx.flare.clip.ClipProperties;
+import com.vmilea.gdx.flare.clip.ClipWriter;
+import com.vmilea.gdx.flare.tween.KeyframeTrackAction;
+import com.vmilea.gdx.flare.tween.Keyframes;
+import com.vmilea.gdx.flare.tween.TweenParallelAction;
+
+// A library of 'clipCount' clips, 'channelCount' float channels of 'keyCount' keys each. load
+// opens the whole library: OBJECTS reads every file and decodes all channels, MAPPED maps each
+// file and reads only its header, BUNDLE does the same over a single mapped bundle. instantiate
+// starts & recycles one clip: OBJECTS copies keys into each track, the others share them.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ClipBenchmark {
+
+	public enum Kind {
+		OBJECTS, MAPPED, BUNDLE
+	}
+
+	@Param({ "1000" })
+	public int clipCount;
+
+	@Param({ "8" })
+	public int channelCount;
+
+	@Param({ "60" })
+	public int keyCount;
+
+	@Param
+	public Kind kind;
+
+	private static final String[] channelNames = { "x", "y", "rotation", "alpha", "scaleX", "scaleY", "width", "height" };
+
+	private File directory;
+	private File bundleFile;
+	private float[] times;
+	private float[][] values; // of clip 0
+	private Clip clip;
+	private ClipProperties properties;
+	private Actor actor;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		Headless.init();
+		MathUtils.random.setSeed(1);
+
+		directory = Files.createTempDirectory("clips").toFile();
+
+		float duration = keyCount / 30f;
+		times = new float[keyCount];
+		for (int k = 0; k < keyCount; k++) {
+			times[k] = (k + 1) / 30f;
+		}
+
+		values = new float[channelCount][];
+		String[] names = new String[clipCount];
+		byte[][] clips = new byte[clipCount][];
+		for (int i = 0; i < clipCount; i++) {
+			ClipWriter writer = new ClipWriter(duration);
+			for (int j = 0; j < channelCount; j++) {
+				float[] channelValues = new float[keyCount];
+				for (int k = 0; k < keyCount; k++) {
+					channelValues[k] = MathUtils.random(0f, 1f);
+				}
+				writer.channel(channelNames[j % channelNames.length], 1, times, channelValues);
+
+				if (i == 0)
+					values[j] = channelValues;
+			}
+			writer.write(new FileHandle(new File(directory, i + ClipLibrary.EXTENSION)));
+
+			names[i] = Integer.toString(i);
+			clips[i] = writer.toBytes();
+		}
+
+		bundleFile = File.createTempFile("clips", ".bundle");
+		ClipWriter.writeBundle(new FileHandle(bundleFile), names, clips);
+
+		clip = new ClipLibrary(new FileHandle(directory)).get("0");
+		properties = ClipProperties.withBuiltIns();
+		actor = new Actor();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+		directory.delete();
+		bundleFile.delete();
+	}
+
+	@Benchmark
+	public Object load() throws IOException {
+		if (kind != Kind.OBJECTS) {
+			ClipLibrary library = (kind == Kind.BUNDLE
+					? ClipLibrary.loadBundle(new FileHandle(bundleFile))
+					: new ClipLibrary(new FileHandle(directory)));
+			for (int i = 0; i < clipCount; i++) {
+				library.get(Integer.toString(i));
+			}
+			return library;
+		} else {
+			Keyframes[] all = new Keyframes[clipCount * channelCount];
+			for (int i = 0; i < clipCount; i++) {
+				Clip clip = Clip.wrap(Files.readAllBytes(new File(directory, i + ClipLibrary.EXTENSION).toPath()));
+				for (int j = 0; j < channelCount; j++) {
+					all[i * channelCount + j] = clip.getKeyframes(j);
+				}
+			}
+			return all;
+		}
+	}
+
+	@Benchmark
+	public Actor instantiate() {
+		TweenParallelAction action;
+
+		if (kind != Kind.OBJECTS) {
+			action = clip.instantiate(properties);
+		} else {
+			action = TweenParallelAction.obtain();
+			for (int j = 0; j < channelCount; j++) {
+				FloatActorProperty property = (FloatActorProperty) properties.get(channelNames[j % channelNames.length]);
+				action.add(KeyframeTrackAction.obtain(property, clip.getDuration()).keys(times, values[j]));
+			}
+		}
+
+		action.startOn(actor).skipToEnd(true);
+		return actor;
+	}
+}
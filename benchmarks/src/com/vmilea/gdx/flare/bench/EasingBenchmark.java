@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vmilea.gdx.flare.tween.Easing;
+import com.vmilea.gdx.flare.tween.TabledEasing;
+import com.vmilea.gdx.flare.tween.TabledEasing.Interpolation;
+
+// Cost of one Easing.get() call, analytic vs tabled. See EasingTableReport for precision.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EasingBenchmark {
+
+	public static final int CALLS = 1024;
+
+	public enum Impl {
+		ANALYTIC, TABLE_LINEAR, TABLE_CUBIC
+	}
+
+	@Param({ "easeInQuad", "easeInOutCubic", "easeInSine", "easeOutSine", "easeInOutSine",
+			"easeInExpo", "easeOutExpo", "easeInOutExpo", "easeInCirc", "easeOutCirc", "easeInOutCirc" })
+	public String curve;
+
+	@Param
+	public Impl impl;
+
+	@Param({ "256" })
+	public int resolution;
+
+	private Easing easing;
+	private final float[] ratios = new float[CALLS];
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Easing analytic = EasingCurves.get(curve);
+
+		switch (impl) {
+		case ANALYTIC:
+			easing = analytic;
+			break;
+		case TABLE_LINEAR:
+			easing = new TabledEasing(analytic, resolution, Interpolation.LINEAR);
+			break;
+		case TABLE_CUBIC:
+			easing = new TabledEasing(analytic, resolution, Interpolation.CUBIC);
+			break;
+		}
+
+		for (int i = 0; i < CALLS; i++) {
+			ratios[i] = (i * 0.618034f) % 1;
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CALLS)
+	public float get() {
+		Easing easing = this.easing;
+		float[] ratios = this.ratios;
+		float sum = 0;
+
+		for (int i = 0; i < CALLS; i++) {
+			sum += easing.get(ratios[i]);
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.vmilea.gdx.flare.tween.Easing;
+import com.vmilea.gdx.flare.tween.Easings;
+
+// One frame of 'count' composite easings, each evaluated at its own ratio. PRIMITIVE is the
+// baseline of a built-in curve. POLYNOMIAL & TABLED compose polynomial / sine curves and get
+// folded; their NESTED variants compose the same curves behind an opaque wrapper, so the tree is
+// evaluated by nested calls.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EasingCompositionBenchmark {
+
+	public enum Kind {
+		PRIMITIVE, POLYNOMIAL, POLYNOMIAL_NESTED, TABLED, TABLED_NESTED
+	}
+
+	@Param({ "500" })
+	public int count;
+
+	@Param
+	public Kind kind;
+
+	private Easing[] easings;
+	private float[] ratios;
+	private float time;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		MathUtils.random.setSeed(1);
+
+		easings = new Easing[count];
+		ratios = new float[count];
+		for (int i = 0; i < count; i++) {
+			float split = MathUtils.random(0.2f, 0.8f);
+
+			switch (kind) {
+			case PRIMITIVE:
+				easings[i] = Easings.easeInOutCubic;
+				break;
+			case POLYNOMIAL:
+				easings[i] = compose(Easings.easeInQuad, Easings.easeOutCubic, split);
+				break;
+			case POLYNOMIAL_NESTED:
+				easings[i] = compose(opaque(Easings.easeInQuad), opaque(Easings.easeOutCubic), split);
+				break;
+			case TABLED:
+				easings[i] = compose(Easings.easeInSine, Easings.easeOutExpo, split);
+				break;
+			case TABLED_NESTED:
+				easings[i] = compose(opaque(Easings.easeInSine), opaque(Easings.easeOutExpo), split);
+				break;
+			}
+			ratios[i] = MathUtils.random();
+		}
+	}
+
+	@Benchmark
+	public float frame() {
+		time += 1 / 60f;
+		if (time >= 1)
+			time -= 1;
+
+		float sum = 0;
+		for (int i = 0; i < count; i++) {
+			float ratio = ratios[i] + time;
+			sum += easings[i].get(ratio >= 1 ? ratio - 1 : ratio);
+		}
+		return sum;
+	}
+
+	private static Easing compose(Easing a, Easing b, float split) {
+		return Easings.blend(a.then(b, split).mirror(), a, 0.25f).scale(1.1f).clamp();
+	}
+
+	private static Easing opaque(final Easing easing) {
+		return new Easing() {
+			@Override
+			public float get(float ratio) {
+				return easing.get(ratio);
+			}
+
+			@Override
+			public Easing reversed() {
+				return opaque(easing.reversed());
+			}
+		};
+	}
+}
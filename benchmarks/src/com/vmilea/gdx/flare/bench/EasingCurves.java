@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import com.badlogic.gdx.utils.Array;
+import com.vmilea.gdx.flare.tween.Easing;
+import com.vmilea.gdx.flare.tween.Easings;
+
+// Built-in curves by field name.
+//
+final class EasingCurves {
+
+	static Array<String> names() {
+		Array<String> names = new Array<String>();
+		for (int i = 0, n = Easings.getBuiltInCount(); i < n; i++) {
+			names.add(Easings.getBuiltInName(i));
+		}
+		return names;
+	}
+
+	static Easing get(String name) {
+		Easing easing = Easings.forName(name);
+		if (easing == null)
+			throw new IllegalArgumentException("No such easing: " + name);
+		return easing;
+	}
+
+	private EasingCurves() { // sealed
+	}
+}
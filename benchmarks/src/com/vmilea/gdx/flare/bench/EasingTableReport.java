@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import com.vmilea.gdx.flare.tween.Easing;
+import com.vmilea.gdx.flare.tween.TabledEasing;
+import com.vmilea.gdx.flare.tween.TabledEasing.Interpolation;
+
+// Prints the max error of TabledEasing against each built-in curve, per resolution and
+// interpolation. Run with: java -cp benchmarks.jar com.vmilea.gdx.flare.bench.EasingTableReport
+// Pair with EasingBenchmark for the speed side. In/out curves converge slower because their
+// curvature jumps at 0.5; circ curves have infinite slope at one end.
+//
+public final class EasingTableReport {
+
+	public static final int[] RESOLUTIONS = { 32, 64, 128, 256, 1024 };
+	public static final int CHECKS = 100000;
+
+	public static void main(String[] args) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%-16s %-7s", "curve", "interp"));
+		for (int resolution : RESOLUTIONS) {
+			sb.append(String.format(" %10s", "n=" + resolution));
+		}
+		System.out.println(sb);
+
+		for (String name : EasingCurves.names()) {
+			Easing easing = EasingCurves.get(name);
+
+			for (Interpolation interpolation : Interpolation.values()) {
+				sb.setLength(0);
+				sb.append(String.format("%-16s %-7s", name, interpolation.name().toLowerCase()));
+				for (int resolution : RESOLUTIONS) {
+					float maxError = new TabledEasing(easing, resolution, interpolation).getMaxError(CHECKS);
+					sb.append(String.format(" %10.2e", maxError));
+				}
+				System.out.println(sb);
+			}
+		}
+	}
+
+	private EasingTableReport() { // sealed
+	}
+}
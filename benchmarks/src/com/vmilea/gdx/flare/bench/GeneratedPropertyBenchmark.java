@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import static com.vmilea.gdx.flare.Actions.repeatForever;
+import static com.vmilea.gdx.flare.Actions.tseq;
+import static com.vmilea.gdx.flare.Actions.tweenTo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.vmilea.gdx.flare.actor.ActorPropertyFactory;
+import com.vmilea.gdx.flare.actor.FloatActorProperty;
+
+// One frame over 'count' actors, each tweening one of 'propertyCount' custom fields. Compares
+// handwritten properties with ones built by ActorPropertyFactory.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GeneratedPropertyBenchmark {
+
+	public static final float FRAME_DT = 1 / 60f;
+
+	public enum Kind {
+		HANDWRITTEN, GENERATED
+	}
+
+	public static class ShaderActor extends Actor {
+		private float f0, f1, f2, f3, f4, f5, f6, f7;
+
+		public float getF0() { return f0; }
+		public float getF1() { return f1; }
+		public float getF2() { return f2; }
+		public float getF3() { return f3; }
+		public float getF4() { return f4; }
+		public float getF5() { return f5; }
+		public float getF6() { return f6; }
+		public float getF7() { return f7; }
+
+		public void setF0(float value) { f0 = value; }
+		public void setF1(float value) { f1 = value; }
+		public void setF2(float value) { f2 = value; }
+		public void setF3(float value) { f3 = value; }
+		public void setF4(float value) { f4 = value; }
+		public void setF5(float value) { f5 = value; }
+		public void setF6(float value) { f6 = value; }
+		public void setF7(float value) { f7 = value; }
+	}
+
+	static final FloatActorProperty[] handwritten = {
+		new FloatActorProperty() {
+			public float get(Actor target) { return ((ShaderActor) target).getF0(); }
+			public void set(Actor target, float value) { ((ShaderActor) target).setF0(value); }
+		},
+		new FloatActorProperty() {
+			public float get(Actor target) { return ((ShaderActor) target).getF1(); }
+			public void set(Actor target, float value) { ((ShaderActor) target).setF1(value); }
+		},
+		new FloatActorProperty() {
+			public float get(Actor target) { return ((ShaderActor) target).getF2(); }
+			public void set(Actor target, float value) { ((ShaderActor) target).setF2(value); }
+		},
+		new FloatActorProperty() {
+			public float get(Actor target) { return ((ShaderActor) target).getF3(); }
+			public void set(Actor target, float value) { ((ShaderActor) target).setF3(value); }
+		},
+		new FloatActorProperty() {
+			public float get(Actor target) { return ((ShaderActor) target).getF4(); }
+			public void set(Actor target, float value) { ((ShaderActor) target).setF4(value); }
+		},
+		new FloatActorProperty() {
+			public float get(Actor target) { return ((ShaderActor) target).getF5(); }
+			public void set(Actor target, float value) { ((ShaderActor) target).setF5(value); }
+		},
+		new FloatActorProperty() {
+			public float get(Actor target) { return ((ShaderActor) target).getF6(); }
+			public void set(Actor target, float value) { ((ShaderActor) target).setF6(value); }
+		},
+		new FloatActorProperty() {
+			public float get(Actor target) { return ((ShaderActor) target).getF7(); }
+			public void set(Actor target, float value) { ((ShaderActor) target).setF7(value); }
+		},
+	};
+
+	@Param({ "1000" })
+	public int count;
+
+	@Param({ "1", "8" })
+	public int propertyCount;
+
+	@Param
+	public Kind kind;
+
+	private Group root;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Headless.init();
+
+		FloatActorProperty[] properties = new FloatActorProperty[propertyCount];
+		for (int i = 0; i < propertyCount; i++) {
+			properties[i] = (kind == Kind.GENERATED
+					? ActorPropertyFactory.makeFloat(ShaderActor.class, "f" + i)
+					: handwritten[i]);
+		}
+
+		root = new Group();
+		for (int i = 0; i < count; i++) {
+			ShaderActor actor = new ShaderActor();
+			root.addActor(actor);
+
+			FloatActorProperty property = properties[i % propertyCount];
+			repeatForever(tseq(tweenTo(property, 1, 1), tweenTo(property, 0, 1))).startOn(actor);
+		}
+	}
+
+	@Benchmark
+	public Group frame() {
+		root.act(FRAME_DT);
+		return root;
+	}
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+// Brings up a headless libGDX backend so Gdx.app is available (logging, postRunnable). The
+// render loop is disabled; benchmarks drive actions from their own thread.
+//
+final class Headless {
+
+	private static HeadlessApplication app;
+
+	static synchronized void init() {
+		if (app != null)
+			return;
+
+		HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+		config.renderInterval = -1;
+
+		app = new HeadlessApplication(new ApplicationAdapter() { }, config);
+		Gdx.app = app;
+	}
+
+	private Headless() { // sealed
+	}
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import static com.vmilea.gdx.flare.Actions.repeatForever;
+import static com.vmilea.gdx.flare.Actions.track;
+import static com.vmilea.gdx.flare.Actions.tweenTo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.vmilea.gdx.flare.AbstractAction;
+import com.vmilea.gdx.flare.actor.ActorProperties;
+import com.vmilea.gdx.flare.tween.TweenSequenceAction;
+
+// An imported channel of 'keyCount' keys on 'count' actors: as a sequence of tweenTo() segments,
+// or as a single keyframe track. frame steps all actors, spawn builds one channel and recycles it.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KeyframeBenchmark {
+
+	public static final float FRAME_DT = 1 / 60f;
+	public static final float KEY_INTERVAL = 1 / 30f;
+
+	public enum Kind {
+		SEQUENCE, TRACK
+	}
+
+	@Param({ "1000" })
+	public int count;
+
+	@Param({ "200" })
+	public int keyCount;
+
+	@Param
+	public Kind kind;
+
+	private float[] times;
+	private float[] values;
+	private Group root;
+	private Actor spawnActor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Headless.init();
+		MathUtils.random.setSeed(1);
+
+		times = new float[keyCount];
+		values = new float[keyCount];
+		for (int i = 0; i < keyCount; i++) {
+			times[i] = (i + 1) * KEY_INTERVAL;
+			values[i] = MathUtils.random(-100f, 100f);
+		}
+
+		root = new Group();
+		for (int i = 0; i < count; i++) {
+			Actor actor = new Actor();
+			root.addActor(actor);
+
+			repeatForever(makeChannel()).startOn(actor);
+		}
+		spawnActor = new Actor();
+	}
+
+	@Benchmark
+	public Group frame() {
+		root.act(FRAME_DT);
+		return root;
+	}
+
+	@Benchmark
+	public Actor spawn() {
+		makeChannel().startOn(spawnActor).skipToEnd(true);
+		return spawnActor;
+	}
+
+	private AbstractAction makeChannel() {
+		switch (kind) {
+		case SEQUENCE:
+			TweenSequenceAction sequence = TweenSequenceAction.obtain();
+			for (int i = 0; i < keyCount; i++) {
+				sequence.add(tweenTo(ActorProperties.x, values[i], KEY_INTERVAL));
+			}
+			return sequence;
+		case TRACK:
+			return track(ActorProperties.x, keyCount * KEY_INTERVAL).keys(times, values);
+		default:
+			throw new IllegalStateException();
+		}
+	}
+}
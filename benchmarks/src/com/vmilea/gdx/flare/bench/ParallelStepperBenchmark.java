@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import static com.vmilea.gdx.flare.Actions.moveBy;
+import static com.vmilea.gdx.flare.Actions.repeatForever;
+import static com.vmilea.gdx.flare.Actions.rotateBy;
+import static com.vmilea.gdx.flare.Actions.seq;
+import static com.vmilea.gdx.flare.Actions.tweenColorTo;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.vmilea.gdx.flare.misc.ParallelStepper;
+
+// One frame over a scene of 'count' actors in groups of 100, each running a looping local
+// action tree. SERIAL is root.act(), PARALLEL is a ParallelStepper with 'threads' workers.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelStepperBenchmark {
+
+	public static final float FRAME_DT = 1 / 60f;
+
+	public enum Mode {
+		SERIAL, PARALLEL
+	}
+
+	@Param({ "10000", "100000" })
+	public int count;
+
+	@Param({ "4" })
+	public int threads;
+
+	@Param
+	public Mode mode;
+
+	private Group root;
+	private ForkJoinPool forkJoinPool;
+	private ParallelStepper stepper;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Headless.init();
+
+		root = new Group();
+		Group group = null;
+
+		for (int i = 0; i < count; i++) {
+			if (i % 100 == 0) {
+				group = new Group();
+				root.addActor(group);
+			}
+
+			Actor actor = new Actor();
+			group.addActor(actor);
+			repeatForever(seq(
+					moveBy(10, 5, 0.5f), rotateBy(45, 0.25f), tweenColorTo(1, 0.5f, 0.5f, 1, 0.25f),
+					moveBy(-10, -5, 0.5f), tweenColorTo(1, 1, 1, 1, 0.25f))).startOn(actor);
+		}
+
+		forkJoinPool = new ForkJoinPool(threads);
+		stepper = new ParallelStepper(forkJoinPool, ParallelStepper.DEFAULT_GRAIN);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		root.clear();
+		forkJoinPool.shutdown();
+	}
+
+	@Benchmark
+	public Group frame() {
+		if (mode == Mode.SERIAL)
+			root.act(FRAME_DT);
+		else
+			stepper.act(root, FRAME_DT);
+		return root;
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import static com.vmilea.gdx.flare.Actions.moveAlong;
+import static com.vmilea.gdx.flare.Actions.moveTo;
+import static com.vmilea.gdx.flare.Actions.repeatForever;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.vmilea.gdx.flare.AbstractAction;
+import com.vmilea.gdx.flare.tween.TweenPath;
+import com.vmilea.gdx.flare.tween.TweenSequenceAction;
+
+// One frame over 'count' actors, each flying along a curve of 'pointCount' points: as a chain of
+// moveTo() segments, or as a single path tween.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PathBenchmark {
+
+	public static final float FRAME_DT = 1 / 60f;
+	public static final float DURATION = 1.5f;
+
+	public enum Kind {
+		CHAINED, POLYLINE, CATMULL_ROM, ORIENTED_CATMULL_ROM
+	}
+
+	@Param({ "1000" })
+	public int count;
+
+	@Param({ "17" })
+	public int pointCount;
+
+	@Param
+	public Kind kind;
+
+	private float[] xy;
+	private TweenPath polyline;
+	private TweenPath catmullRom;
+	private Group root;
+	private Actor spawnActor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Headless.init();
+		MathUtils.random.setSeed(1);
+
+		xy = new float[2 * pointCount];
+		for (int i = 0; i < pointCount; i++) {
+			xy[2 * i] = 20 * i;
+			xy[2 * i + 1] = MathUtils.random(-50f, 50f);
+		}
+
+		polyline = TweenPath.polyline(xy);
+		catmullRom = TweenPath.catmullRom(xy);
+
+		root = new Group();
+		for (int i = 0; i < count; i++) {
+			Actor actor = new Actor();
+			root.addActor(actor);
+
+			repeatForever(makeMotion()).startOn(actor);
+		}
+		spawnActor = new Actor();
+	}
+
+	@Benchmark
+	public Group frame() {
+		root.act(FRAME_DT);
+		return root;
+	}
+
+	// builds and starts one motion, then recycles it; the per-item cost of spawning a fly-to effect
+	@Benchmark
+	public Actor spawn() {
+		makeMotion().startOn(spawnActor).skipToEnd(true);
+		return spawnActor;
+	}
+
+	private AbstractAction makeMotion() {
+		switch (kind) {
+		case CHAINED:
+			TweenSequenceAction chain = TweenSequenceAction.obtain();
+			for (int j = 1; j < pointCount; j++) {
+				chain.add(moveTo(xy[2 * j], xy[2 * j + 1], DURATION / (pointCount - 1)));
+			}
+			return chain;
+		case POLYLINE:
+			return moveAlong(polyline, DURATION);
+		case CATMULL_ROM:
+			return moveAlong(catmullRom, DURATION);
+		case ORIENTED_CATMULL_ROM:
+			return moveAlong(catmullRom, DURATION).orient();
+		default:
+			throw new IllegalStateException();
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vmilea.gdx.pool.AltPool;
+import com.vmilea.gdx.pool.AltReflectionPool;
+import com.vmilea.gdx.pool.PoolItem;
+import com.vmilea.gdx.pool.StripedReflectionPool;
+import com.vmilea.util.Assert;
+
+// Every thread obtains a small tree worth of objects from one shared pool and frees them again.
+// One op is one obtain + free pair. Compare impl=SYNCHRONIZED (AltPool) against impl=STRIPED
+// (StripedAltPool) as the thread count goes up.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PoolContentionBenchmark {
+
+	public static final int TREE_SIZE = 8;
+
+	public static final class Node extends PoolItem.Base {
+		int value;
+
+		@Override
+		public void reset() {
+			value = 0;
+		}
+	}
+
+	public enum Impl {
+		SYNCHRONIZED {
+			@Override
+			AltPool<Node> make() {
+				return new AltReflectionPool<Node>(Node.class);
+			}
+		},
+		STRIPED {
+			@Override
+			AltPool<Node> make() {
+				return new StripedReflectionPool<Node>(Node.class);
+			}
+		};
+
+		abstract AltPool<Node> make();
+	}
+
+	@State(Scope.Thread)
+	public static class Tree {
+		final Node[] nodes = new Node[TREE_SIZE];
+	}
+
+	@Param
+	public Impl impl;
+
+	private AltPool<Node> pool;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		pool = impl.make();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Assert.check(pool.getLoose() == 0);
+		AltPool.registeredPools.removeValue(pool, true);
+		pool = null;
+	}
+
+	@Benchmark
+	@Threads(1)
+	@OperationsPerInvocation(TREE_SIZE)
+	public int threads01(Tree tree) {
+		return obtainAndFree(tree);
+	}
+
+	@Benchmark
+	@Threads(2)
+	@OperationsPerInvocation(TREE_SIZE)
+	public int threads02(Tree tree) {
+		return obtainAndFree(tree);
+	}
+
+	@Benchmark
+	@Threads(4)
+	@OperationsPerInvocation(TREE_SIZE)
+	public int threads04(Tree tree) {
+		return obtainAndFree(tree);
+	}
+
+	@Benchmark
+	@Threads(8)
+	@OperationsPerInvocation(TREE_SIZE)
+	public int threads08(Tree tree) {
+		return obtainAndFree(tree);
+	}
+
+	@Benchmark
+	@Threads(16)
+	@OperationsPerInvocation(TREE_SIZE)
+	public int threads16(Tree tree) {
+		return obtainAndFree(tree);
+	}
+
+	private int obtainAndFree(Tree tree) {
+		AltPool<Node> pool = this.pool;
+		Node[] nodes = tree.nodes;
+		int sum = 0;
+
+		for (int i = 0; i < TREE_SIZE; i++) {
+			Node node = pool.obtain();
+			node.value = i;
+			nodes[i] = node;
+		}
+		for (int i = 0; i < TREE_SIZE; i++) {
+			sum += nodes[i].value;
+			pool.free(nodes[i]);
+			nodes[i] = null;
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import static com.vmilea.gdx.flare.Actions.delay;
+import static com.vmilea.gdx.flare.Actions.fadeOut;
+import static com.vmilea.gdx.flare.Actions.hide;
+import static com.vmilea.gdx.flare.Actions.moveBy;
+import static com.vmilea.gdx.flare.Actions.prl;
+import static com.vmilea.gdx.flare.Actions.repeat;
+import static com.vmilea.gdx.flare.Actions.rotateBy;
+import static com.vmilea.gdx.flare.Actions.scaleTo;
+import static com.vmilea.gdx.flare.Actions.seq;
+import static com.vmilea.gdx.flare.Actions.tseq;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.vmilea.gdx.flare.AbstractAction;
+import com.vmilea.gdx.flare.ActionScript;
+import com.vmilea.gdx.flare.ActionScriptCache;
+import com.vmilea.gdx.flare.tween.Easings;
+
+// Spawns the same medium-sized tree: built by hand with the factories, instantiated from a cached
+// script, or parsed from scratch every time. Each spawn starts the tree and skips to its end.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScriptBenchmark {
+
+	public static final String SCRIPT = "seq(prl(moveBy(10, 0, 0.3, easeOutQuad), fadeOut(0.2)), delay(0.1), "
+			+ "tseq(scaleTo(1.2, 0.1), scaleTo(1, 0.1, easeInQuad)), repeat(rotateBy(90, 0.2), 3), hide())";
+
+	public enum Kind {
+		HAND, CACHED, PARSE
+	}
+
+	@Param
+	public Kind kind;
+
+	private ActionScriptCache cache;
+	private Actor actor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Headless.init();
+
+		cache = new ActionScriptCache();
+		actor = new Actor();
+	}
+
+	@Benchmark
+	public Actor spawn() {
+		makeTree().startOn(actor).skipToEnd(true);
+		return actor;
+	}
+
+	private AbstractAction makeTree() {
+		switch (kind) {
+		case HAND:
+			return seq(prl(moveBy(10, 0, 0.3f).ease(Easings.easeOutQuad), fadeOut(0.2f)), delay(0.1f),
+					tseq(scaleTo(1.2f, 0.1f), scaleTo(1, 0.1f).ease(Easings.easeInQuad)), repeat(rotateBy(90, 0.2f), 3),
+					hide());
+		case CACHED:
+			return cache.instantiate(SCRIPT);
+		case PARSE:
+			return ActionScript.parse(SCRIPT);
+		default:
+			throw new IllegalStateException();
+		}
+	}
+}
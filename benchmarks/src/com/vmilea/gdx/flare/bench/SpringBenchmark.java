@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import static com.vmilea.gdx.flare.Actions.repeatForever;
+import static com.vmilea.gdx.flare.Actions.seq;
+import static com.vmilea.gdx.flare.Actions.springMoveTo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.Action;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+
+// 'count' cards on springs. SPRING is a single barely damped SpringToAction per card, so it keeps
+// moving for the whole run; SPRING_UNEVEN is the same with an alternating frame time, so the
+// transition is recomputed every frame. SPRING_TREE bounces each card between two points with
+// repeatForever(seq(...)), settling and restarting. EULER is the hand-written per-frame
+// alternative: semi-implicit Euler in SUBSTEPS substeps to stay stable.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpringBenchmark {
+
+	public static final float FRAME_DT = 1 / 60f;
+	public static final float FREQUENCY = 2;
+	public static final float DAMPING_RATIO = 0.4f;
+	public static final float BARE_DAMPING_RATIO = 0.0001f;
+	public static final int SUBSTEPS = 4;
+
+	public enum Kind {
+		SPRING, SPRING_UNEVEN, SPRING_TREE, EULER
+	}
+
+	@Param({ "500" })
+	public int count;
+
+	@Param
+	public Kind kind;
+
+	private Group root;
+	private int frame;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Headless.init();
+		MathUtils.random.setSeed(1);
+
+		root = new Group();
+		for (int i = 0; i < count; i++) {
+			Actor actor = new Actor();
+			root.addActor(actor);
+
+			float x = MathUtils.random(-500f, 500f);
+			float y = MathUtils.random(-500f, 500f);
+			switch (kind) {
+			case SPRING:
+			case SPRING_UNEVEN:
+				springMoveTo(x, y, FREQUENCY, BARE_DAMPING_RATIO).startOn(actor);
+				break;
+			case SPRING_TREE:
+				repeatForever(seq(springMoveTo(x, y, FREQUENCY, DAMPING_RATIO), springMoveTo(0, 0, FREQUENCY, DAMPING_RATIO)))
+						.startOn(actor);
+				break;
+			case EULER:
+				actor.addAction(new EulerSpring(x, y));
+				break;
+			}
+		}
+	}
+
+	@Benchmark
+	public Group frame() {
+		float dt = FRAME_DT;
+		if (kind == Kind.SPRING_UNEVEN)
+			dt *= ((frame++ & 1) == 0 ? 0.9f : 1.1f);
+
+		root.act(dt);
+		return root;
+	}
+
+	private static final class EulerSpring extends Action {
+		private final float x1, y1;
+		private float targetX, targetY;
+		private float velocityX, velocityY;
+
+		EulerSpring(float x1, float y1) {
+			this.x1 = x1;
+			this.y1 = y1;
+			targetX = x1;
+			targetY = y1;
+		}
+
+		@Override
+		public boolean act(float dt) {
+			Actor actor = getActor();
+			float x = actor.getX();
+			float y = actor.getY();
+			float omega = MathUtils.PI2 * FREQUENCY;
+			float h = dt / SUBSTEPS;
+
+			for (int i = 0; i < SUBSTEPS; i++) {
+				velocityX += h * (-omega * omega * (x - targetX) - 2 * DAMPING_RATIO * omega * velocityX);
+				velocityY += h * (-omega * omega * (y - targetY) - 2 * DAMPING_RATIO * omega * velocityY);
+				x += h * velocityX;
+				y += h * velocityY;
+			}
+			actor.setPosition(x, y);
+
+			float dx = x - targetX;
+			float dy = y - targetY;
+			float vx = velocityX / omega;
+			float vy = velocityY / omega;
+			if (dx * dx + dy * dy + vx * vx + vy * vy <= 1e-4f) {
+				targetX = (targetX == 0 ? x1 : 0);
+				targetY = (targetY == 0 ? y1 : 0);
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import static com.vmilea.gdx.flare.Actions.fadeOut;
+import static com.vmilea.gdx.flare.Actions.hide;
+import static com.vmilea.gdx.flare.Actions.moveBy;
+import static com.vmilea.gdx.flare.Actions.prl;
+import static com.vmilea.gdx.flare.Actions.scaleTo;
+import static com.vmilea.gdx.flare.Actions.seq;
+import static com.vmilea.gdx.flare.Actions.tpaddedRight;
+import static com.vmilea.gdx.flare.Actions.tseq;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.vmilea.gdx.flare.AbstractAction;
+import com.vmilea.gdx.flare.ActionTemplate;
+import com.vmilea.gdx.flare.tween.Easings;
+
+// One op spawns a "coin pickup" tree on an actor and then removes it, returning the tree to the
+// pools. FACTORY builds the tree through Actions every time, TEMPLATE instantiates a frozen copy.
+// Both are bound by pool obtains, so the two should stay level.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TemplateBenchmark {
+
+	public enum Mode {
+		FACTORY, TEMPLATE
+	}
+
+	@Param
+	public Mode mode;
+
+	private Actor actor;
+	private ActionTemplate template;
+
+	static AbstractAction coinPickup() {
+		return seq(
+				prl(moveBy(0, 40, 0.4f),
+						tseq(tpaddedRight(scaleTo(1.5f, 0.15f), 0.1f), fadeOut(0.25f).ease(Easings.easeInQuad))),
+				hide());
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Headless.init();
+
+		actor = new Actor();
+		template = ActionTemplate.freeze(coinPickup());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		template.dispose();
+		template = null;
+	}
+
+	@Benchmark
+	public AbstractAction spawn() {
+		AbstractAction action = (mode == Mode.FACTORY ? coinPickup().startOn(actor) : template.instantiate(actor));
+		actor.removeAction(action);
+		return action;
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import static com.vmilea.gdx.flare.Actions.delay;
+import static com.vmilea.gdx.flare.Actions.parkable;
+import static com.vmilea.gdx.flare.Actions.repeatForever;
+import static com.vmilea.gdx.flare.Actions.scaleBy;
+import static com.vmilea.gdx.flare.Actions.seq;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.vmilea.gdx.flare.AbstractAction;
+import com.vmilea.gdx.flare.TimerWheel;
+
+// One frame over 'count' ambient animations that pulse briefly every few seconds. PLAIN steps
+// every tree each frame, PARKED wraps the trees in ParkableAction on a TimerWheel. EMPTY has no
+// actions, for the cost of visiting the actors.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimerWheelBenchmark {
+
+	public static final float FRAME_DT = 1 / 60f;
+
+	public enum Mode {
+		EMPTY, PLAIN, PARKED
+	}
+
+	@Param({ "10000", "100000" })
+	public int count;
+
+	@Param
+	public Mode mode;
+
+	private Group root;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Headless.init();
+
+		root = new Group();
+		TimerWheel wheel = new TimerWheel();
+		if (mode == Mode.PARKED)
+			root.addAction(wheel);
+
+		Random random = new Random(1);
+		for (int i = 0; i < count; i++) {
+			Actor actor = new Actor();
+			root.addActor(actor);
+			if (mode == Mode.EMPTY)
+				continue;
+
+			AbstractAction action = repeatForever(seq(
+					delay(2 + 3 * random.nextFloat()), scaleBy(0.2f, 0.1f), scaleBy(-0.2f, 0.1f)));
+			if (mode == Mode.PARKED)
+				action = parkable(wheel, action);
+			action.startOn(actor);
+		}
+
+		// spread the pulses out
+		for (int i = 0; i < 300; i++) {
+			root.act(FRAME_DT);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		root.clear();
+	}
+
+	@Benchmark
+	public Group frame() {
+		root.act(FRAME_DT);
+		return root;
+	}
+}
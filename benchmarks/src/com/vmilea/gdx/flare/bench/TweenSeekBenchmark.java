@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.vmilea.gdx.flare.Actions;
+import com.vmilea.gdx.flare.tween.AbstractTweenAction;
+import com.vmilea.gdx.flare.tween.TweenSequenceAction;
+
+// Seeking and pinning a long authored tween sequence, built either as one flat node or as
+// the chain of binary nodes that nested two-argument tseq() calls produce.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TweenSeekBenchmark {
+
+	public static final int SEEKS = 64;
+
+	public enum Shape {
+		FLAT, NESTED
+	}
+
+	@Param({ "8", "32", "128" })
+	public int steps;
+
+	@Param
+	public Shape shape;
+
+	private Actor actor;
+	private AbstractTweenAction action;
+	private float[] randomRatios;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Headless.init();
+
+		actor = new Actor();
+
+		if (shape == Shape.FLAT) {
+			TweenSequenceAction seq = TweenSequenceAction.obtain();
+			for (int i = 0; i < steps; i++) {
+				seq.add(step(i));
+			}
+			action = seq;
+		} else {
+			AbstractTweenAction seq = step(0);
+			for (int i = 1; i < steps; i++) {
+				seq = Actions.tseq(seq, step(i));
+			}
+			action = seq;
+		}
+		action.startOn(actor);
+
+		randomRatios = new float[SEEKS];
+		MathUtils.random.setSeed(1);
+		for (int i = 0; i < SEEKS; i++) {
+			randomRatios[i] = MathUtils.random();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		actor.removeAction(action);
+	}
+
+	@Benchmark
+	public float scrub() {
+		for (int i = 1; i <= SEEKS; i++) {
+			action.seek(i / (float) SEEKS);
+		}
+		return actor.getX();
+	}
+
+	@Benchmark
+	public float randomSeek() {
+		float[] ratios = randomRatios;
+		for (int i = 0; i < SEEKS; i++) {
+			action.seek(ratios[i]);
+		}
+		return actor.getX();
+	}
+
+	@Benchmark
+	public float restart() {
+		action.act(action.getDuration());
+		action.restart();
+		return actor.getX();
+	}
+
+	private static AbstractTweenAction step(int i) {
+		switch (i % 3) {
+		case 0:
+			return Actions.moveBy(10, 5, 0.25f);
+		case 1:
+			return Actions.fadeOut(0.1f);
+		default:
+			return Actions.rotateBy(15, 0.3f);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.vmilea.gdx.flare.AbstractAction;
+import com.vmilea.gdx.flare.Actions;
+import com.vmilea.gdx.flare.actor.ActorProperties;
+import com.vmilea.gdx.flare.actor.FloatActorProperty;
+import com.vmilea.gdx.flare.tween.Easings;
+import com.vmilea.gdx.flare.tween.TweenWorld;
+
+// Simple fades and moves, stepped as regular tween actions, as TweenWorld handles inside the
+// action API, or as fire-and-forget world tweens. Tweens are long enough to never finish.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TweenWorldBenchmark {
+
+	public static final float FRAME_DT = 1 / 60f;
+	public static final float DURATION = 1e6f;
+
+	public enum Mode {
+		ACTIONS, HANDLES, WORLD
+	}
+
+	@Param({ "1000", "20000", "100000" })
+	public int count;
+
+	@Param
+	public Mode mode;
+
+	private TweenWorld world;
+	private Actor[] actors;
+	private AbstractAction[] actions;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Headless.init();
+
+		world = new TweenWorld(count);
+		actors = new Actor[count];
+		actions = new AbstractAction[mode == Mode.WORLD ? 0 : count];
+
+		for (int i = 0; i < count; i++) {
+			Actor actor = new Actor();
+			FloatActorProperty property = (i % 2 == 0 ? ActorProperties.alpha : ActorProperties.x);
+			float value1 = (i % 2 == 0 ? 0 : 100);
+
+			switch (mode) {
+			case ACTIONS:
+				actions[i] = Actions.tweenTo(property, value1, DURATION).ease(Easings.easeOutQuad).startOn(actor);
+				break;
+			case HANDLES:
+				actions[i] = Actions.tweenTo(world, property, value1, DURATION).ease(Easings.easeOutQuad).startOn(actor);
+				break;
+			case WORLD:
+				world.tweenTo(actor, property, value1, DURATION, Easings.easeOutQuad);
+				break;
+			}
+			actors[i] = actor;
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		for (int i = 0; i < actions.length; i++) {
+			actors[i].removeAction(actions[i]);
+		}
+		world.clear();
+	}
+
+	@Benchmark
+	public int frame() {
+		world.step(FRAME_DT);
+
+		AbstractAction[] actions = this.actions;
+		int done = 0;
+		for (int i = 0, n = actions.length; i < n; i++) {
+			if (actions[i].act(FRAME_DT))
+				done++;
+		}
+		return done;
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import static com.vmilea.gdx.flare.Actions.moveXBy;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.vmilea.gdx.flare.ParallelAction;
+
+// A level intro: one parallel of 'width' tweens with durations spread over 0.5 - 5 seconds. One op
+// plays the whole intro at 60 fps, so most frames run with few children left.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WideParallelBenchmark {
+
+	public static final float FRAME_DT = 1 / 60f;
+
+	@Param({ "32", "256" })
+	public int width;
+
+	private Actor actor;
+	private ParallelAction action;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Headless.init();
+
+		Random random = new Random(42);
+		actor = new Actor();
+		action = ParallelAction.obtain();
+
+		for (int i = 0; i < width; i++) {
+			float duration = 0.5f + 4.5f * random.nextFloat() * random.nextFloat(); // most finish early
+			action.add(moveXBy(1, duration));
+		}
+		action.startOn(actor);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		actor.removeAction(action);
+		action = null;
+	}
+
+	@Benchmark
+	public int intro() {
+		ParallelAction action = this.action;
+		int frames = 1;
+
+		while (!action.act(FRAME_DT)) {
+			frames++;
+		}
+		action.restart();
+		return frames;
+	}
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.bench;
+
+import static com.vmilea.gdx.flare.Actions.prl;
+import static com.vmilea.gdx.flare.Actions.repeatForever;
+import static com.vmilea.gdx.flare.Actions.tseq;
+import static com.vmilea.gdx.flare.Actions.tweenTo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.vmilea.gdx.flare.actor.ActorProperties;
+import com.vmilea.gdx.flare.actor.FloatActorProperty;
+import com.vmilea.gdx.flare.actor.WriteCombiner;
+
+// One frame over 'count' widgets, each moved and resized by a tween per axis. A widget lays out
+// 'cellCount' child rects whenever its position or size changes. DIRECT writes through ActorProperties,
+// COMBINED through a WriteCombiner flushed after the frame.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WriteCombinerBenchmark {
+
+	public static final float FRAME_DT = 1 / 60f;
+
+	public enum Mode {
+		DIRECT, COMBINED
+	}
+
+	static final class Widget extends Actor {
+		final Rectangle[] cells;
+		int layoutCount;
+
+		Widget(int cellCount) {
+			cells = new Rectangle[cellCount];
+			for (int i = 0; i < cells.length; i++) {
+				cells[i] = new Rectangle();
+			}
+		}
+
+		@Override
+		protected void positionChanged() {
+			layout();
+		}
+
+		@Override
+		protected void sizeChanged() {
+			layout();
+		}
+
+		private void layout() {
+			float cellHeight = getHeight() / cells.length;
+			for (int i = 0; i < cells.length; i++) {
+				cells[i].set(getX(), getY() + i * cellHeight, getWidth(), cellHeight);
+			}
+			layoutCount++;
+		}
+	}
+
+	@Param({ "1000" })
+	public int count;
+
+	@Param({ "4", "32" })
+	public int cellCount;
+
+	@Param
+	public Mode mode;
+
+	private Group root;
+	private WriteCombiner combiner;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Headless.init();
+
+		root = new Group();
+		combiner = new WriteCombiner();
+
+		boolean isCombined = (mode == Mode.COMBINED);
+		FloatActorProperty x = (isCombined ? combiner.x : ActorProperties.x);
+		FloatActorProperty y = (isCombined ? combiner.y : ActorProperties.y);
+		FloatActorProperty width = (isCombined ? combiner.width : ActorProperties.width);
+		FloatActorProperty height = (isCombined ? combiner.height : ActorProperties.height);
+
+		for (int i = 0; i < count; i++) {
+			Widget widget = new Widget(cellCount);
+			root.addActor(widget);
+
+			prl(repeatForever(tseq(tweenTo(x, 100, 1), tweenTo(x, 0, 1))),
+					repeatForever(tseq(tweenTo(y, 50, 0.8f), tweenTo(y, 0, 0.8f))),
+					repeatForever(tseq(tweenTo(width, 200, 0.75f), tweenTo(width, 100, 0.75f))),
+					repeatForever(tseq(tweenTo(height, 80, 0.6f), tweenTo(height, 40, 0.6f)))).startOn(widget);
+		}
+	}
+
+	@Benchmark
+	public Group frame() {
+		root.act(FRAME_DT);
+
+		if (mode == Mode.COMBINED)
+			combiner.flush();
+
+		return root;
+	}
+}
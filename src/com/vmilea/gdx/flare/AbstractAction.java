@@ -30,6 +30,8 @@ public abstract class AbstractAction extends com.badlogic.gdx.scenes.scene2d.Act
 	// used to detect if the action has been recycled while running
 	protected int poolItemIncarnation = 1;
 
+	private byte actorLocalCache; // 0: unknown, 1: local, 2: not local
+
 	protected abstract void doPin();
 
 	protected abstract float doRun(float dt);
@@ -49,6 +51,7 @@ public abstract class AbstractAction extends com.badlogic.gdx.scenes.scene2d.Act
 		target = null;
 		isDone = true;
 		isPinned = false;
+		actorLocalCache = 0;
 	}
 
 	@Override
@@ -63,6 +66,12 @@ public abstract class AbstractAction extends com.badlogic.gdx.scenes.scene2d.Act
 		return isDone;
 	}
 
+	@Override
+	public void setActor(Actor actor) {
+		super.setActor(actor);
+		actorLocalCache = 0;
+	}
+
 	@Override
 	public void setTarget(Actor target) {
 		setTarget(target, false);
@@ -70,6 +79,7 @@ public abstract class AbstractAction extends com.badlogic.gdx.scenes.scene2d.Act
 
 	public void setTarget(Actor target, boolean replaceSubactionsTarget) {
 		this.target = target;
+		actorLocalCache = 0;
 	}
 
 	public AbstractAction target(Actor target) {
@@ -103,9 +113,12 @@ public abstract class AbstractAction extends com.badlogic.gdx.scenes.scene2d.Act
 	public AbstractAction skipToEnd(float dtPerStep, boolean removeFromActor) {
 		int incarnation = poolItemIncarnation;
 
-		// act until done; won't work for perpetual actions!
-		while (incarnation == poolItemIncarnation && !isDone)
-			act(dtPerStep);
+		if (!isDone) {
+			if (!isPinned)
+				Assert.fail("Action %s can't skip to end because it's not pinned!", toString());
+
+			fastForward(dtPerStep);
+		}
 
 		if (incarnation == poolItemIncarnation && removeFromActor)
 			actor.removeAction(this);
@@ -121,20 +134,62 @@ public abstract class AbstractAction extends com.badlogic.gdx.scenes.scene2d.Act
 		return false;
 	}
 
+	// True if running the action only touches its own actor. Actors whose actions are all local
+	// may be stepped concurrently (see ParallelStepper). Actions running user code must check it
+	// is ActorLocal.
+	public boolean isActorLocal() {
+		return target == actor;
+	}
+
+	// isActorLocal(), checked once per run of the tree; targets aren't expected to change while running
+	public final boolean isActorLocalCached() {
+		if (actorLocalCache == 0)
+			actorLocalCache = (byte) (isActorLocal() ? 1 : 2);
+		return actorLocalCache == 1;
+	}
+
 	public AbstractAction reversed() {
 		throw new UnsupportedOperationException(getClass().getSimpleName() + " doesn't support reversal");
 	}
 
+	// Unbound action with the same setup, and copies of any subactions. Runtime state isn't copied.
+	public AbstractAction copy() {
+		throw new UnsupportedOperationException(getClass().getSimpleName() + " doesn't support copying");
+	}
+
+	// Running time from start to end. Actions that end on a condition instead of a schedule, like
+	// springs and flings, report the time left: from the current state once pinned, or from the
+	// initial state before that.
 	public float getDuration() {
 		throw new UnsupportedOperationException(getClass().getSimpleName() + " doesn't support duration");
 	}
 
+	// How long the running action will only wait, with no effect other than time passing. Zero if
+	// it may do work on the next step, infinite while it waits for an event that wakes its
+	// ParkableAction (see Signal). Lets ParkableAction skip stepping idle trees.
+	public float getSleepTime() {
+		return 0;
+	}
+
 	protected void restore() {
 		if (!isDone)
 			StateCheck.fail("May not restart %s while it is running", getClass().getSimpleName());
 
 		isDone = false;
 		isPinned = false; // _don't_ keep isPinned
+		actorLocalCache = 0;
+	}
+
+	// Brings a pinned, unfinished action to its end. Side effects happen once, in order; children of
+	// a parallel are finished one after another. Containers forward to their children, so tweens
+	// jump to the end instead of being stepped. By default the action acts in steps of dtPerStep
+	// until done; won't work for perpetual actions! Callers check poolItemIncarnation afterwards,
+	// the action may be recycled meanwhile.
+	protected void fastForward(float dtPerStep) {
+		int incarnation = poolItemIncarnation;
+
+		while (incarnation == poolItemIncarnation && !isDone)
+			run(dtPerStep);
 	}
 
 	protected boolean supportsRemoveWhileRunning() {
@@ -65,4 +65,9 @@ abstract class AbstractCombinerAction extends AbstractAction { // internal
 	public boolean isReversible() {
 		return action1.isReversible() && action2.isReversible();
 	}
+
+	@Override
+	public boolean isActorLocal() {
+		return super.isActorLocal() && action1.isActorLocal() && action2.isActorLocal();
+	}
 }
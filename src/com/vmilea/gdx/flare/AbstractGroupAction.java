@@ -87,4 +87,16 @@ public abstract class AbstractGroupAction extends AbstractAction {
 		}
 		return true;
 	}
+
+	@Override
+	public boolean isActorLocal() {
+		if (!super.isActorLocal())
+			return false;
+
+		for (int i = 0, n = actions.size; i < n; i++) {
+			if (!actions.get(i).isActorLocal())
+				return false;
+		}
+		return true;
+	}
 }
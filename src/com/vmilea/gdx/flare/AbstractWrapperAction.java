@@ -55,6 +55,11 @@ abstract class AbstractWrapperAction extends AbstractAction { // internal
 		action.restore();
 	}
 
+	@Override
+	public boolean isActorLocal() {
+		return super.isActorLocal() && action.isActorLocal();
+	}
+
 	@Override
 	protected void doPin() {
 		action.pin();
@@ -16,9 +16,14 @@
 
 package com.vmilea.gdx.flare;
 
-import com.vmilea.gdx.pool.AltReflectionPool;
+import com.vmilea.gdx.pool.AltPool;
+import com.vmilea.gdx.pool.StripedReflectionPool;
+import com.vmilea.gdx.pool.TrimPolicy;
+import com.vmilea.util.ArgCheck;
 
-public class ActionPool<T extends AbstractAction> extends AltReflectionPool<T> {
+// Action pools are lock-free, so action trees may be built on worker threads.
+//
+public class ActionPool<T extends AbstractAction> extends StripedReflectionPool<T> {
 
 	public interface Listener {
 
@@ -30,10 +35,29 @@ public class ActionPool<T extends AbstractAction> extends AltReflectionPool<T> {
 	public static final int DEFAULT_ACTION_POOL_CAPACITY = 4;
 
 	private static Listener listener;
+	private static TrimPolicy defaultTrimPolicy = TrimPolicy.NONE;
 	
 	public static void setListener(Listener listener) {
 		ActionPool.listener = listener;
 	}
+
+	public static Listener getListener() {
+		return listener;
+	}
+
+	// Applies to all action pools, including those made later.
+	//
+	public static void setDefaultTrimPolicy(TrimPolicy trimPolicy) {
+		ArgCheck.check(trimPolicy != null, "Trim policy may not be null");
+
+		defaultTrimPolicy = trimPolicy;
+
+		for (int i = 0, n = AltPool.registeredPools.size; i < n; i++) {
+			AltPool<?> pool = AltPool.registeredPools.get(i);
+			if (pool instanceof ActionPool)
+				pool.setTrimPolicy(trimPolicy);
+		}
+	}
 	
 	public static <T extends AbstractAction> ActionPool<T> make(Class<? super T> pooledType) {
 		return make(pooledType, DEFAULT_ACTION_POOL_CAPACITY);
@@ -47,10 +71,11 @@ public class ActionPool<T extends AbstractAction> extends AltReflectionPool<T> {
 
 	private ActionPool(Class<T> pooledType, int initialCapacity) {
 		super(pooledType, initialCapacity);
+		setTrimPolicy(defaultTrimPolicy);
 	}
 
 	@Override
-	public synchronized T obtain() {
+	public T obtain() {
 		T action = super.obtain();
 		action.setPool(this);
 		
@@ -61,11 +86,12 @@ public class ActionPool<T extends AbstractAction> extends AltReflectionPool<T> {
 	}
 
 	@Override
-	public synchronized void free(T object) {
-		super.free(object);
-
+	public void free(T object) {
+		// bump before the action becomes visible to other threads
 		AbstractAction action = (AbstractAction) object;
 		action.poolItemIncarnation++;
+
+		super.free(object);
 		
 		if (listener != null)
 			listener.onActionRecycled(getPooledType());
@@ -0,0 +1,403 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare;
+
+import com.badlogic.gdx.scenes.scene2d.Touchable;
+import com.badlogic.gdx.utils.Array;
+import com.vmilea.gdx.flare.tween.AbstractTweenAction;
+import com.vmilea.gdx.flare.tween.Easing;
+import com.vmilea.gdx.flare.tween.Easings;
+import com.vmilea.gdx.flare.tween.TweenParallelAction;
+import com.vmilea.gdx.flare.tween.TweenSequenceAction;
+import com.vmilea.util.ArgCheck;
+
+// Text form of action trees, for animations kept in data files. A script is one call, with the
+// names & arguments of the factories in Actions:
+//
+//   seq(prl(moveBy(10, 0, 0.3, easeOutQuad), fadeOut(0.2)), delay(0.1), hide())
+//
+// Arguments are numbers, calls, easing names (see Easings) or touchable names (enabled, disabled,
+// childrenOnly). Tweens take an optional easing after their regular arguments. seq, prl, tseq and
+// tprl take any number of actions.
+//
+// parse() builds a fresh tree; parsing is slow next to the factories, so scripts played more than
+// once should go through an ActionScriptCache.
+//
+public final class ActionScript {
+
+	private final String source;
+	private int position;
+
+	public static AbstractAction parse(String source) {
+		ArgCheck.check(source != null, "Script may not be null");
+
+		ActionScript script = new ActionScript(source);
+		AbstractAction action = script.parseAction();
+
+		script.skipWhitespace();
+		if (script.position != source.length()) {
+			action.recycle();
+			script.fail("Unexpected '%c'", source.charAt(script.position));
+		}
+		return action;
+	}
+
+	public static ActionTemplate compile(String source) {
+		return ActionTemplate.freeze(parse(source));
+	}
+
+	private ActionScript(String source) {
+		this.source = source;
+	}
+
+	//
+	// parsing
+	//
+
+	private AbstractAction parseAction() {
+		int start = skipWhitespace();
+		Object value = parseValue();
+		if (!(value instanceof AbstractAction)) {
+			position = start;
+			fail("Expected an action");
+		}
+		return (AbstractAction) value;
+	}
+
+	// Float, String (identifier) or AbstractAction
+	private Object parseValue() {
+		skipWhitespace();
+		if (position == source.length())
+			fail("Unexpected end of script");
+
+		char c = source.charAt(position);
+		if (c == '-' || c == '.' || Character.isDigit(c))
+			return parseNumber();
+		if (!Character.isJavaIdentifierStart(c))
+			fail("Unexpected '%c'", c);
+
+		int start = position;
+		String name = parseIdentifier();
+
+		skipWhitespace();
+		if (position == source.length() || source.charAt(position) != '(')
+			return name;
+		position++;
+
+		Array<Object> args = new Array<Object>();
+		try {
+			skipWhitespace();
+			if (peek() == ')') {
+				position++;
+			} else {
+				do {
+					args.add(parseValue());
+					skipWhitespace();
+				} while (accept(','));
+
+				if (!accept(')'))
+					fail("Expected ',' or ')'");
+			}
+
+			return call(name, args, start);
+		} catch (RuntimeException e) {
+			for (Object arg : args) {
+				if (arg instanceof AbstractAction)
+					((AbstractAction) arg).recycle();
+			}
+			throw e;
+		}
+	}
+
+	private Float parseNumber() {
+		int start = position;
+		if (peek() == '-')
+			position++;
+		while (position < source.length()) {
+			char c = source.charAt(position);
+			if (Character.isDigit(c) || c == '.' || c == 'e' || c == 'E'
+					|| ((c == '-' || c == '+') && (source.charAt(position - 1) == 'e' || source.charAt(position - 1) == 'E')))
+				position++;
+			else
+				break;
+		}
+
+		try {
+			return Float.valueOf(source.substring(start, position));
+		} catch (NumberFormatException e) {
+			position = start;
+			fail("Malformed number");
+			return null;
+		}
+	}
+
+	private String parseIdentifier() {
+		int start = position;
+		while (position < source.length() && Character.isJavaIdentifierPart(source.charAt(position))) {
+			position++;
+		}
+		return source.substring(start, position);
+	}
+
+	private int skipWhitespace() {
+		while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+			position++;
+		}
+		return position;
+	}
+
+	private char peek() {
+		return (position < source.length() ? source.charAt(position) : '\0');
+	}
+
+	private boolean accept(char c) {
+		if (peek() == c) {
+			position++;
+			return true;
+		}
+		return false;
+	}
+
+	private void fail(String format, Object... args) {
+		ArgCheck.fail("%s at %d in script: %s", String.format(format, args), position, source);
+	}
+
+	//
+	// factories
+	//
+
+	private AbstractAction call(String name, Array<Object> args, int start) {
+		Call call = new Call(name, args, start);
+
+		switch (name) {
+		// time
+		case "delay": return call.arity(1).result(Actions.delay(call.number(0)));
+		case "nothing": return call.arity(0).result(Actions.nothing());
+
+		// tween by
+		case "moveXBy": return call.tween(2, Actions.moveXBy(call.number(0), call.number(1)));
+		case "moveYBy": return call.tween(2, Actions.moveYBy(call.number(0), call.number(1)));
+		case "moveBy": return call.tween(3, Actions.moveBy(call.number(0), call.number(1), call.number(2)));
+		case "resizeBy": return call.tween(3, Actions.resizeBy(call.number(0), call.number(1), call.number(2)));
+		case "scaleBy":
+			if (call.countNumbers() == 2)
+				return call.tween(2, Actions.scaleBy(call.number(0), call.number(1)));
+			return call.tween(3, Actions.scaleBy(call.number(0), call.number(1), call.number(2)));
+		case "scaleByFactor":
+			if (call.countNumbers() == 2)
+				return call.tween(2, Actions.scaleByFactor(call.number(0), call.number(1)));
+			return call.tween(3, Actions.scaleByFactor(call.number(0), call.number(1), call.number(2)));
+		case "rotateBy": return call.tween(2, Actions.rotateBy(call.number(0), call.number(1)));
+		case "increaseAlphaBy": return call.tween(2, Actions.increaseAlphaBy(call.number(0), call.number(1)));
+		case "decreaseAlphaBy": return call.tween(2, Actions.decreaseAlphaBy(call.number(0), call.number(1)));
+
+		// tween to
+		case "moveXTo": return call.tween(2, Actions.moveXTo(call.number(0), call.number(1)));
+		case "moveYTo": return call.tween(2, Actions.moveYTo(call.number(0), call.number(1)));
+		case "moveTo": return call.tween(3, Actions.moveTo(call.number(0), call.number(1), call.number(2)));
+		case "moveCenterTo": return call.tween(3, Actions.moveCenterTo(call.number(0), call.number(1), call.number(2)));
+		case "resizeTo": return call.tween(3, Actions.resizeTo(call.number(0), call.number(1), call.number(2)));
+		case "scaleTo":
+			if (call.countNumbers() == 2)
+				return call.tween(2, Actions.scaleTo(call.number(0), call.number(1)));
+			return call.tween(3, Actions.scaleTo(call.number(0), call.number(1), call.number(2)));
+		case "rotateTo": return call.tween(2, Actions.rotateTo(call.number(0), call.number(1)));
+		case "tweenAlphaTo": return call.tween(2, Actions.tweenAlphaTo(call.number(0), call.number(1)));
+		case "fadeIn": return call.tween(1, Actions.fadeIn(call.number(0)));
+		case "fadeOut": return call.tween(1, Actions.fadeOut(call.number(0)));
+		case "tweenColorTo":
+			return call.tween(5, Actions.tweenColorTo(call.number(0), call.number(1), call.number(2), call.number(3), call.number(4)));
+
+		// combiners
+		case "seq": {
+			call.atLeast(1).actions();
+			SequenceAction action = SequenceAction.obtain();
+			for (int i = 0; i < args.size; i++) {
+				action.add(call.action(i));
+			}
+			return call.result(action);
+		}
+		case "prl": {
+			call.atLeast(1).actions();
+			ParallelAction action = ParallelAction.obtain();
+			for (int i = 0; i < args.size; i++) {
+				action.add(call.action(i));
+			}
+			return call.result(action);
+		}
+		case "tseq": {
+			call.atLeast(1).tweens();
+			TweenSequenceAction action = TweenSequenceAction.obtain();
+			for (int i = 0; i < args.size; i++) {
+				action.add(call.tween(i));
+			}
+			return call.result(action);
+		}
+		case "tprl": {
+			call.atLeast(1).tweens();
+			TweenParallelAction action = TweenParallelAction.obtain();
+			for (int i = 0; i < args.size; i++) {
+				action.add(call.tween(i));
+			}
+			return call.result(action);
+		}
+		case "delayed": return call.arity(2).result(Actions.delayed(call.action(0), call.number(1)));
+		case "tdelayed": return call.arity(2).result(Actions.tdelayed(call.tween(0), call.number(1)));
+		case "tpaddedLeft": return call.arity(2).result(Actions.tpaddedLeft(call.tween(0), call.number(1)));
+		case "tpaddedRight": return call.arity(2).result(Actions.tpaddedRight(call.tween(0), call.number(1)));
+
+		// instant
+		case "show": return call.arity(0).result(Actions.show());
+		case "hide": return call.arity(0).result(Actions.hide());
+		case "touchableTo": return call.arity(1).result(Actions.touchableTo(call.touchable(0)));
+		case "normalizeRotation": return call.arity(0).result(Actions.normalizeRotation());
+		case "removeActor": return call.arity(0).result(Actions.removeActor());
+
+		// wrappers
+		case "repeat": return call.arity(2).result(Actions.repeat(call.action(0), (int) call.number(1)));
+		case "repeatForever": return call.arity(1).result(Actions.repeatForever(call.action(0)));
+		case "timeScale": return call.arity(2).result(Actions.timeScale(call.action(0), call.number(1)));
+		case "ease": return call.arity(2).result(Actions.ease(call.action(0), call.easing(1)));
+
+		default:
+			position = start;
+			fail("Unknown action '%s'", name);
+			return null;
+		}
+	}
+
+	// Arguments of one call. Arguments are checked before any action is built, so a failed call
+	// leaves its arguments to be recycled by the caller.
+	private final class Call {
+		final String name;
+		final Array<Object> args;
+		final int start;
+
+		Call(String name, Array<Object> args, int start) {
+			this.name = name;
+			this.args = args;
+			this.start = start;
+		}
+
+		Call arity(int count) {
+			if (args.size != count)
+				failCall("%s takes %d arguments", name, count);
+			return this;
+		}
+
+		Call atLeast(int count) {
+			if (args.size < count)
+				failCall("%s takes at least %d arguments", name, count);
+			return this;
+		}
+
+		void actions() {
+			for (int i = 0; i < args.size; i++) {
+				action(i);
+			}
+		}
+
+		void tweens() {
+			for (int i = 0; i < args.size; i++) {
+				tween(i);
+			}
+		}
+
+		int countNumbers() {
+			int count = 0;
+			while (count < args.size && args.get(count) instanceof Float) {
+				count++;
+			}
+			return count;
+		}
+
+		AbstractAction result(AbstractAction action) {
+			args.clear();
+			return action;
+		}
+
+		// tween with 'count' numeric arguments and an optional easing
+		AbstractAction tween(int count, AbstractTweenAction tween) {
+			if (args.size != count && args.size != count + 1) {
+				tween.recycle();
+				failCall("%s takes %d arguments and an optional easing", name, count);
+			}
+
+			if (args.size == count + 1) {
+				Object arg = args.get(count);
+				Easing easing = (arg instanceof String ? Easings.forName((String) arg) : null);
+				if (easing == null) {
+					tween.recycle();
+					failCall("Argument %d of %s must be an easing", count + 1, name);
+				}
+				tween.ease(easing);
+			}
+			return result(tween);
+		}
+
+		float number(int index) {
+			Object arg = get(index);
+			if (!(arg instanceof Float))
+				failCall("Argument %d of %s must be a number", index + 1, name);
+			return (Float) arg;
+		}
+
+		Easing easing(int index) {
+			Object arg = get(index);
+			Easing easing = (arg instanceof String ? Easings.forName((String) arg) : null);
+			if (easing == null)
+				failCall("Argument %d of %s must be an easing", index + 1, name);
+			return easing;
+		}
+
+		Touchable touchable(int index) {
+			Object arg = get(index);
+			if (arg instanceof String) {
+				for (Touchable touchable : Touchable.values()) {
+					if (touchable.name().equals(arg))
+						return touchable;
+				}
+			}
+			failCall("Argument %d of %s must be enabled, disabled or childrenOnly", index + 1, name);
+			return null;
+		}
+
+		AbstractAction action(int index) {
+			Object arg = get(index);
+			if (!(arg instanceof AbstractAction))
+				failCall("Argument %d of %s must be an action", index + 1, name);
+			return (AbstractAction) arg;
+		}
+
+		AbstractTweenAction tween(int index) {
+			if (!(get(index) instanceof AbstractTweenAction))
+				failCall("Argument %d of %s must be a tween", index + 1, name);
+			return (AbstractTweenAction) action(index);
+		}
+
+		private Object get(int index) {
+			if (index >= args.size)
+				failCall("%s takes more arguments", name);
+			return args.get(index);
+		}
+
+		private void failCall(String format, Object... formatArgs) {
+			position = start;
+			fail(format, formatArgs);
+		}
+	}
+}
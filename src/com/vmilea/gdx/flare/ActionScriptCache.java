@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.ObjectMap;
+
+// Compiled ActionScripts, keyed by source. Each distinct script is parsed once, into an
+// ActionTemplate; later requests only hash the source and copy the template out of the pools.
+// Scripts read again from a data file hit the cache as long as the text is the same.
+// Thread-safe.
+//
+public final class ActionScriptCache {
+
+	private final ObjectMap<String, ActionTemplate> templates = new ObjectMap<String, ActionTemplate>(); // guarded by this
+
+	public synchronized ActionTemplate get(String source) {
+		ActionTemplate template = templates.get(source);
+		if (template == null) {
+			template = ActionScript.compile(source);
+			templates.put(source, template);
+		}
+		return template;
+	}
+
+	public AbstractAction instantiate(String source) {
+		return get(source).instantiate();
+	}
+
+	public AbstractAction instantiate(String source, Actor actor) {
+		return get(source).instantiate(actor);
+	}
+
+	public synchronized int size() {
+		return templates.size;
+	}
+
+	// Disposes all templates. Instances already spawned keep running, they don't share state with
+	// their template.
+	public synchronized void clear() {
+		for (ActionTemplate template : templates.values()) {
+			template.dispose();
+		}
+		templates.clear();
+	}
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.vmilea.util.ArgCheck;
+import com.vmilea.util.StateCheck;
+
+// Action tree frozen for repeated spawning, for trees that are set up in one place and spawned in
+// others, like those configured from data. freeze() checks once that the tree can be copied;
+// instantiate() copies it node by node out of the pools.
+//
+// This isn't faster than building the tree again through the factories. Either way the time goes
+// to obtaining each node from its pool, and an instance costs about the same.
+//
+// The template owns the frozen tree and never runs it, so instantiate() may be called from any
+// thread. Delegates, generators, predicates and signals are shared by all instances. One-shot
+// actions whose delegates are pooled (disposed after running) can't be frozen.
+//
+public final class ActionTemplate {
+
+	private AbstractAction prototype;
+
+	public static ActionTemplate freeze(AbstractAction action) {
+		ArgCheck.check(action != null, "Action may not be null");
+		ArgCheck.check(action.getActor() == null, "May not freeze an action that is bound to an actor");
+		ArgCheck.check(action.isDone && !action.isPinned, "May not freeze an action that has been started");
+
+		// fail early on actions that can't be copied; this also warms up the pools
+		action.copy().recycle();
+
+		return new ActionTemplate(action);
+	}
+
+	private ActionTemplate(AbstractAction prototype) {
+		this.prototype = prototype;
+	}
+
+	public float getDuration() {
+		return getPrototype().getDuration();
+	}
+
+	public AbstractAction instantiate() {
+		return getPrototype().copy();
+	}
+
+	public AbstractAction instantiate(Actor actor) {
+		return getPrototype().copy().startOn(actor);
+	}
+
+	// returns the frozen tree to the pools
+	public void dispose() {
+		if (prototype != null) {
+			prototype.recycle();
+			prototype = null;
+		}
+	}
+
+	private AbstractAction getPrototype() {
+		if (prototype == null)
+			StateCheck.fail("ActionTemplate has been disposed");
+
+		return prototype;
+	}
+}
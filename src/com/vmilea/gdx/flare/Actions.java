@@ -28,10 +28,13 @@ import com.vmilea.gdx.flare.actor.ActorProperties;
 import com.vmilea.gdx.flare.actor.ComplexActorProperty;
 import com.vmilea.gdx.flare.actor.FloatActorProperty;
 import com.vmilea.gdx.flare.actor.FloatPairActorProperty;
+import com.vmilea.gdx.flare.actor.IntActorProperty;
 import com.vmilea.gdx.flare.tween.AbstractTweenAction;
 import com.vmilea.gdx.flare.tween.DelayAction;
+import com.vmilea.gdx.flare.tween.DiscreteTrackAction;
 import com.vmilea.gdx.flare.tween.Easing;
 import com.vmilea.gdx.flare.tween.IdempotentAction;
+import com.vmilea.gdx.flare.tween.KeyframeTrackAction;
 import com.vmilea.gdx.flare.tween.PaddingAction;
 import com.vmilea.gdx.flare.tween.ScaleByFactorAction;
 import com.vmilea.gdx.flare.tween.TweenByAction;
@@ -40,8 +43,12 @@ import com.vmilea.gdx.flare.tween.TweenFloatPairByAction;
 import com.vmilea.gdx.flare.tween.TweenFloatPairToAction;
 import com.vmilea.gdx.flare.tween.TweenFloatToAction;
 import com.vmilea.gdx.flare.tween.TweenParallelAction;
+import com.vmilea.gdx.flare.tween.TweenPath;
+import com.vmilea.gdx.flare.tween.TweenPathAction;
 import com.vmilea.gdx.flare.tween.TweenSequenceAction;
 import com.vmilea.gdx.flare.tween.TweenToAction;
+import com.vmilea.gdx.flare.tween.TweenWorld;
+import com.vmilea.gdx.flare.tween.TweenWorldAction;
 import com.vmilea.gdx.pool.PayloadRunnable;
 
 public final class Actions {
@@ -83,6 +90,10 @@ public final class Actions {
 		return DelayUntilAction.obtain(predicate, null);
 	}
 
+	public static AwaitSignalAction delayUntil(Signal signal) {
+		return AwaitSignalAction.obtain(signal);
+	}
+
 	// tween padding
 	//
 
@@ -162,25 +173,27 @@ public final class Actions {
 	}
 
 	public static TweenByAction increaseColorBy(Color delta, float duration) {
-		ActorProperties.color.get(delta, tmpFloatArray.items);
-		return tweenBy(ActorProperties.color, tmpFloatArray.items, duration);
+		float[] items = scratch.get().items;
+		ActorProperties.color.get(delta, items);
+		return tweenBy(ActorProperties.color, items, duration);
 	}
 
 	public static TweenByAction increaseColorBy(float deltaR, float deltaG, float deltaB, float deltaA, float duration) {
-		return increaseColorBy(tmpColor.set(deltaR, deltaG, deltaB, deltaA), duration);
+		return increaseColorBy(scratch.get().color.set(deltaR, deltaG, deltaB, deltaA), duration);
 	}
 
 	public static TweenByAction decreaseColorBy(Color delta, float duration) {
-		ActorProperties.color.get(delta, tmpFloatArray.items);
+		float[] items = scratch.get().items;
+		ActorProperties.color.get(delta, items);
 		for (int i = 0, n = ActorProperties.color.getCount(); i < n; i++) {
-			tmpFloatArray.items[i] *= -1;
+			items[i] *= -1;
 		}
 
-		return tweenBy(ActorProperties.color, tmpFloatArray.items, duration);
+		return tweenBy(ActorProperties.color, items, duration);
 	}
 
 	public static TweenByAction decreaseColorBy(float deltaR, float deltaG, float deltaB, float deltaA, float duration) {
-		return decreaseColorBy(tmpColor.set(deltaR, deltaG, deltaB, deltaA), duration);
+		return decreaseColorBy(scratch.get().color.set(deltaR, deltaG, deltaB, deltaA), duration);
 	}
 
 	// tween to
@@ -267,12 +280,39 @@ public final class Actions {
 	}
 
 	public static TweenToAction tweenColorTo(float r, float g, float b, float a, float duration) {
-		return tweenColorTo(tmpColor.set(r, g, b, a), duration);
+		return tweenColorTo(scratch.get().color.set(r, g, b, a), duration);
 	}
 
 	public static TweenToAction tweenColorTo(Color color, float duration) {
-		ActorProperties.color.get(color, tmpFloatArray.items);
-		return tweenTo(ActorProperties.color, tmpFloatArray.items, duration);
+		float[] items = scratch.get().items;
+		ActorProperties.color.get(color, items);
+		return tweenTo(ActorProperties.color, items, duration);
+	}
+
+	// tween along path
+	//
+
+	public static TweenPathAction tweenAlong(FloatPairActorProperty property, TweenPath path, float duration) {
+		return TweenPathAction.obtain(property, path, duration);
+	}
+
+	public static TweenPathAction moveAlong(TweenPath path, float duration) {
+		return tweenAlong(ActorProperties.position, path, duration);
+	}
+
+	public static TweenPathAction moveCenterAlong(TweenPath path, float duration) {
+		return tweenAlong(ActorProperties.centerPosition, path, duration);
+	}
+
+	// batched tweens, stepped by a TweenWorld
+	//
+
+	public static TweenWorldAction tweenTo(TweenWorld world, FloatActorProperty property, float value1, float duration) {
+		return TweenWorldAction.obtainTo(world, property, value1, duration);
+	}
+
+	public static TweenWorldAction tweenBy(TweenWorld world, FloatActorProperty property, float delta, float duration) {
+		return TweenWorldAction.obtainBy(world, property, delta, duration);
 	}
 
 	// pace to
@@ -318,6 +358,38 @@ public final class Actions {
 		return paceTo(ActorProperties.rotation, MathUtils.radiansToDegrees * radRotation1, speed);
 	}
 
+	// springs & decay
+	//
+
+	public static SpringToAction springTo(FloatActorProperty property, float value1, float frequency, float dampingRatio) {
+		return SpringToAction.obtain(property, value1, frequency, dampingRatio);
+	}
+
+	public static SpringToAction springTo(FloatPairActorProperty property, float a1, float b1, float frequency,
+			float dampingRatio) {
+		return SpringToAction.obtain(property, a1, b1, frequency, dampingRatio);
+	}
+
+	public static SpringToAction springMoveTo(float x1, float y1, float frequency, float dampingRatio) {
+		return springTo(ActorProperties.position, x1, y1, frequency, dampingRatio);
+	}
+
+	public static SpringToAction springScaleTo(float scale1, float frequency, float dampingRatio) {
+		return springTo(ActorProperties.scale, scale1, scale1, frequency, dampingRatio);
+	}
+
+	public static DecayAction decay(FloatActorProperty property, float velocity, float rate) {
+		return DecayAction.obtain(property, velocity, rate);
+	}
+
+	public static DecayAction decay(FloatPairActorProperty property, float velocityA, float velocityB, float rate) {
+		return DecayAction.obtain(property, velocityA, velocityB, rate);
+	}
+
+	public static DecayAction fling(float velocityX, float velocityY, float rate) {
+		return decay(ActorProperties.position, velocityX, velocityY, rate);
+	}
+
 	//
 	// combinators
 	//
@@ -357,23 +429,23 @@ public final class Actions {
 	}
 
 	public static TweenSequenceAction tseq(AbstractTweenAction action1, AbstractTweenAction action2, AbstractTweenAction action3) {
-		return tseq(tseq(action1, action2), action3);
+		return TweenSequenceAction.obtain().add(action1).add(action2).add(action3);
 	}
 
 	public static TweenSequenceAction tseq(AbstractTweenAction action1, AbstractTweenAction action2, AbstractTweenAction action3, AbstractTweenAction action4) {
-		return tseq(tseq(action1, action2, action3), action4);
+		return TweenSequenceAction.obtain().add(action1).add(action2).add(action3).add(action4);
 	}
 
 	public static TweenSequenceAction tseq(AbstractTweenAction action1, AbstractTweenAction action2, AbstractTweenAction action3, AbstractTweenAction action4, AbstractTweenAction action5) {
-		return tseq(tseq(action1, action2, action3, action4), action5);
+		return TweenSequenceAction.obtain().add(action1).add(action2).add(action3).add(action4).add(action5);
 	}
 
 	public static TweenSequenceAction tseq(AbstractTweenAction action1, AbstractTweenAction action2, AbstractTweenAction action3, AbstractTweenAction action4, AbstractTweenAction action5, AbstractTweenAction action6) {
-		return tseq(tseq(action1, action2, action3, action4, action5), action6);
+		return TweenSequenceAction.obtain().add(action1).add(action2).add(action3).add(action4).add(action5).add(action6);
 	}
 
 	public static TweenSequenceAction tseq(AbstractTweenAction action1, AbstractTweenAction action2, AbstractTweenAction action3, AbstractTweenAction action4, AbstractTweenAction action5, AbstractTweenAction action6, AbstractTweenAction action7) {
-		return tseq(tseq(action1, action2, action3, action4, action5, action6), action7);
+		return TweenSequenceAction.obtain().add(action1).add(action2).add(action3).add(action4).add(action5).add(action6).add(action7);
 	}
 
 	public static ParallelAction prl(AbstractAction action1, AbstractAction action2) {
@@ -411,23 +483,23 @@ public final class Actions {
 	}
 
 	public static TweenParallelAction tprl(AbstractTweenAction action1, AbstractTweenAction action2, AbstractTweenAction action3) {
-		return tprl(tprl(action1, action2), action3);
+		return TweenParallelAction.obtain().add(action1).add(action2).add(action3);
 	}
 
 	public static TweenParallelAction tprl(AbstractTweenAction action1, AbstractTweenAction action2, AbstractTweenAction action3, AbstractTweenAction action4) {
-		return tprl(tprl(action1, action2, action3), action4);
+		return TweenParallelAction.obtain().add(action1).add(action2).add(action3).add(action4);
 	}
 
 	public static TweenParallelAction tprl(AbstractTweenAction action1, AbstractTweenAction action2, AbstractTweenAction action3, AbstractTweenAction action4, AbstractTweenAction action5) {
-		return tprl(tprl(action1, action2, action3, action4), action5);
+		return TweenParallelAction.obtain().add(action1).add(action2).add(action3).add(action4).add(action5);
 	}
 
 	public static TweenParallelAction tprl(AbstractTweenAction action1, AbstractTweenAction action2, AbstractTweenAction action3, AbstractTweenAction action4, AbstractTweenAction action5, AbstractTweenAction action6) {
-		return tprl(tprl(action1, action2, action3, action4, action5), action6);
+		return TweenParallelAction.obtain().add(action1).add(action2).add(action3).add(action4).add(action5).add(action6);
 	}
 
 	public static TweenParallelAction tprl(AbstractTweenAction action1, AbstractTweenAction action2, AbstractTweenAction action3, AbstractTweenAction action4, AbstractTweenAction action5, AbstractTweenAction action6, AbstractTweenAction action7) {
-		return tprl(tprl(action1, action2, action3, action4, action5, action6), action7);
+		return TweenParallelAction.obtain().add(action1).add(action2).add(action3).add(action4).add(action5).add(action6).add(action7);
 	}
 
 	public static AbstractAction delayed(AbstractAction action, float duration) {
@@ -478,6 +550,34 @@ public final class Actions {
 		return runIdempotent(idempotentRunner, delegate);
 	}
 
+	//
+	// keyframe & discrete tracks
+	//
+
+	public static KeyframeTrackAction track(FloatActorProperty property, float duration) {
+		return KeyframeTrackAction.obtain(property, duration);
+	}
+
+	public static KeyframeTrackAction track(FloatPairActorProperty property, float duration) {
+		return KeyframeTrackAction.obtain(property, duration);
+	}
+
+	public static KeyframeTrackAction track(ComplexActorProperty property, float duration) {
+		return KeyframeTrackAction.obtain(property, duration);
+	}
+
+	public static DiscreteTrackAction track(IntActorProperty property, float duration) {
+		return DiscreteTrackAction.obtain(property, duration);
+	}
+
+	public static DiscreteTrackAction visibleTrack(float duration) {
+		return track(ActorProperties.visibleFlag, duration);
+	}
+
+	public static DiscreteTrackAction touchableTrack(float duration) {
+		return track(ActorProperties.touchableOrdinal, duration);
+	}
+
 	//
 	// one-shot instant actions
 	//
@@ -530,6 +630,10 @@ public final class Actions {
 		return EaseAction.obtain(action, easing);
 	}
 
+	public static ParkableAction parkable(TimerWheel wheel, AbstractAction action) {
+		return ParkableAction.obtain(wheel, action);
+	}
+
 	//
 	// private members
 	//
@@ -537,11 +641,28 @@ public final class Actions {
 	private Actions() { // sealed
 	}
 
+	// shared scratch, for use on the render thread only; factories here use per-thread scratch
 	public static final Color tmpColor = new Color();
 	public static final FloatArray tmpFloatArray = new FloatArray(4);
 
+	private static final class Scratch {
+		final Color color = new Color();
+		final float[] items = new float[4];
+	}
+
+	// action trees may be built on worker threads
+	private static final ThreadLocal<Scratch> scratch = new ThreadLocal<Scratch>() {
+		@Override
+		protected Scratch initialValue() {
+			return new Scratch();
+		}
+	};
+
 	// idempotent delegates
 
+	private static abstract class LocalIdempotentDelegate implements IdempotentDelegate, ActorLocal {
+	}
+
 	private static final IdempotentDelegate idempotentRunner = new IdempotentDelegate() {
 		@Override
 		public void run(Actor actor, Object data) {
@@ -550,7 +671,7 @@ public final class Actions {
 		}
 	};
 
-	private static final IdempotentDelegate rotationNormalizer = new IdempotentDelegate() {
+	private static final IdempotentDelegate rotationNormalizer = new LocalIdempotentDelegate() {
 		@Override
 		public void run(Actor actor, Object data) {
 			float angle = actor.getRotation();
@@ -564,14 +685,14 @@ public final class Actions {
 		}
 	};
 
-	private static final IdempotentDelegate visibleSetter = new IdempotentDelegate() {
+	private static final IdempotentDelegate visibleSetter = new LocalIdempotentDelegate() {
 		@Override
 		public void run(Actor actor, Object data) {
 			actor.setVisible(data == Boolean.TRUE);
 		}
 	};
 
-	private static final IdempotentDelegate touchableSetter = new IdempotentDelegate() {
+	private static final IdempotentDelegate touchableSetter = new LocalIdempotentDelegate() {
 		@Override
 		public void run(Actor actor, Object data) {
 			actor.setTouchable((Touchable) data);
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare;
+
+import com.vmilea.gdx.pool.AltPool;
+import com.vmilea.util.ArgCheck;
+
+// Event-driven counterpart of DelayUntilAction. Waits from the moment it's pinned until the
+// signal fires, then finishes on its next step, passing on that frame's dt. Sleeps without a
+// deadline meanwhile, so a ParkableAction parks the tree until the signal fires. Skipping to the
+// end passes the wait as if the signal fired.
+//
+public final class AwaitSignalAction extends AbstractAction {
+
+	private Signal signal;
+
+	// signal bookkeeping
+	boolean isSignaled;
+	int waiterIndex = -1;
+
+	public static final AltPool<AwaitSignalAction> pool = ActionPool.make(AwaitSignalAction.class);
+
+	AwaitSignalAction() { } // internal
+
+	public static AwaitSignalAction obtain(Signal signal) {
+		ArgCheck.check(signal != null, "Invalid signal");
+
+		AwaitSignalAction obj = pool.obtain();
+		obj.signal = signal;
+		return obj;
+	}
+
+	public Signal getSignal() {
+		return signal;
+	}
+
+	@Override
+	public void reset() {
+		if (waiterIndex != -1)
+			signal.unsubscribe(this);
+
+		super.reset();
+
+		signal = null;
+		isSignaled = false;
+	}
+
+	@Override
+	public void restore() {
+		super.restore();
+
+		if (waiterIndex != -1)
+			signal.unsubscribe(this);
+		isSignaled = false;
+	}
+
+	@Override
+	public AwaitSignalAction copy() {
+		AwaitSignalAction copy = obtain(signal);
+
+		copy.target = target;
+		return copy;
+	}
+
+	@Override
+	public boolean isActorLocal() {
+		return false; // subscribing touches the signal
+	}
+
+	@Override
+	public float getSleepTime() {
+		return (isSignaled ? 0 : Float.POSITIVE_INFINITY);
+	}
+
+	@Override
+	protected void doPin() {
+		signal.subscribe(this);
+	}
+
+	@Override
+	protected void fastForward(float dtPerStep) {
+		if (waiterIndex != -1)
+			signal.unsubscribe(this);
+		isSignaled = true;
+		isDone = true;
+	}
+
+	@Override
+	protected float doRun(float dt) {
+		if (isSignaled) {
+			isDone = true;
+			return dt;
+		} else {
+			return 0;
+		}
+	}
+}
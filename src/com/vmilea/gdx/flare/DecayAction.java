@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare;
+
+import com.vmilea.gdx.flare.actor.FloatActorProperty;
+import com.vmilea.gdx.flare.actor.FloatPairActorProperty;
+import com.vmilea.gdx.pool.AltPool;
+import com.vmilea.util.ArgCheck;
+import com.vmilea.util.StateCheck;
+
+// Fling: a float or float pair property coasts with its velocity decaying exponentially, by 'rate'
+// per second (velocity = velocity0 * e^(-rate t)). Steps apply the exact solution, so any dt is
+// stable. The property is read back every step; outside changes keep the remaining momentum.
+//
+// Ends once speed drops to the tolerance. That moment is solved exactly, so the action stops where
+// the continuous motion would and returns the rest of dt. The total glide is speed0 / rate.
+//
+public final class DecayAction extends AbstractAction {
+
+	public static final float DEFAULT_SPEED_TOLERANCE = 1; // units per second
+
+	private FloatActorProperty property;
+	private FloatPairActorProperty pairProperty;
+	private float velocityA0, velocityB0;
+	private float rate;
+	private float tolerance = DEFAULT_SPEED_TOLERANCE;
+
+	private float velocityA, velocityB;
+
+	// decay factor for the last dt
+	private float lastDt = -1;
+	private float lastDecay;
+
+	public static final AltPool<DecayAction> pool = ActionPool.make(DecayAction.class);
+
+	DecayAction() { } // internal
+
+	public static DecayAction obtain(FloatActorProperty property, float velocity, float rate) {
+		DecayAction obj = obtain(rate);
+		obj.property = property;
+		obj.velocityA0 = velocity;
+		return obj;
+	}
+
+	public static DecayAction obtain(FloatPairActorProperty property, float velocityA, float velocityB, float rate) {
+		DecayAction obj = obtain(rate);
+		obj.pairProperty = property;
+		obj.velocityA0 = velocityA;
+		obj.velocityB0 = velocityB;
+		return obj;
+	}
+
+	private static DecayAction obtain(float rate) {
+		ArgCheck.check(rate > 0, "Rate must be greater than 0");
+
+		DecayAction obj = pool.obtain();
+		obj.rate = rate;
+		return obj;
+	}
+
+	public DecayAction tolerance(float speedTolerance) {
+		ArgCheck.check(speedTolerance > 0, "Tolerance must be greater than 0");
+
+		this.tolerance = speedTolerance;
+		return this;
+	}
+
+	public float getVelocityA() {
+		return (isPinned ? velocityA : velocityA0);
+	}
+
+	public float getVelocityB() {
+		return (isPinned ? velocityB : velocityB0);
+	}
+
+	// where the property will rest, if left alone
+	public float getRestA() {
+		StateCheck.check(isPinned, "DecayAction can't tell its rest unless pinned");
+
+		return getValueA() + getVelocityA() * getGlideFraction() / rate;
+	}
+
+	public float getRestB() {
+		StateCheck.check(isPinned, "DecayAction can't tell its rest unless pinned");
+
+		return getValueB() + getVelocityB() * getGlideFraction() / rate;
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+
+		property = null;
+		pairProperty = null;
+		velocityA0 = 0;
+		velocityB0 = 0;
+		rate = 0;
+		tolerance = DEFAULT_SPEED_TOLERANCE;
+		velocityA = 0;
+		velocityB = 0;
+		lastDt = -1;
+	}
+
+	@Override
+	public void restore() {
+		super.restore();
+
+		velocityA = 0;
+		velocityB = 0;
+	}
+
+	@Override
+	public DecayAction copy() {
+		DecayAction copy = (property != null
+				? obtain(property, velocityA0, rate)
+				: obtain(pairProperty, velocityA0, velocityB0, rate));
+
+		copy.target = target;
+		copy.tolerance(tolerance);
+		return copy;
+	}
+
+	// time left until the speed drops to tolerance, from the initial velocity before pinning
+	@Override
+	public float getDuration() {
+		float speed = getSpeed(getVelocityA(), getVelocityB());
+		return (speed > tolerance ? (float) Math.log(speed / tolerance) / rate : 0);
+	}
+
+	@Override
+	protected void doPin() {
+		velocityA = velocityA0;
+		velocityB = velocityB0;
+	}
+
+	@Override
+	protected void fastForward(float dtPerStep) {
+		setValue(getRestA(), getRestB());
+		velocityA = 0;
+		velocityB = 0;
+		isDone = true;
+	}
+
+	@Override
+	protected float doRun(float dt) {
+		if (dt != lastDt) {
+			lastDt = dt;
+			lastDecay = (float) Math.exp(-rate * dt);
+		}
+
+		float speedSq = velocityA * velocityA + velocityB * velocityB;
+		if (speedSq * lastDecay * lastDecay <= tolerance * tolerance) {
+			float remaining = getDuration(); // solved only on the last step
+			fastForward(0);
+			return Math.max(0, dt - remaining);
+		}
+
+		float glide = (1 - lastDecay) / rate;
+
+		setValue(getValueA() + velocityA * glide, getValueB() + velocityB * glide);
+		velocityA *= lastDecay;
+		velocityB *= lastDecay;
+		return 0;
+	}
+
+	//
+	// private members
+	//
+
+	// fraction of the full glide (speed / rate) covered before the speed drops to tolerance
+	private float getGlideFraction() {
+		float speed = getSpeed(getVelocityA(), getVelocityB());
+		return (speed > tolerance ? 1 - tolerance / speed : 0);
+	}
+
+	private static float getSpeed(float velocityA, float velocityB) {
+		return (float) Math.sqrt(velocityA * velocityA + velocityB * velocityB);
+	}
+
+	private float getValueA() {
+		return (property != null ? property.get(target) : pairProperty.getA(target));
+	}
+
+	private float getValueB() {
+		return (property != null ? 0 : pairProperty.getB(target));
+	}
+
+	private void setValue(float a, float b) {
+		if (property != null)
+			property.set(target, a);
+		else
+			pairProperty.set(target, a, b);
+	}
+}
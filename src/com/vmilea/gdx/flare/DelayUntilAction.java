@@ -59,6 +59,19 @@ public final class DelayUntilAction<T> extends AbstractAction {
 		super.restore();
 	}
 
+	@Override
+	public DelayUntilAction<T> copy() {
+		DelayUntilAction<T> copy = obtain(predicate, argument);
+
+		copy.target = target;
+		return copy;
+	}
+
+	@Override
+	public boolean isActorLocal() {
+		return super.isActorLocal() && predicate instanceof ActorLocal;
+	}
+
 	@Override
 	protected void doPin() {
 	}
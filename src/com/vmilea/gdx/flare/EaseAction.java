@@ -59,6 +59,14 @@ public final class EaseAction extends AbstractWrapperAction {
 		easedElapsed = 0;
 	}
 
+	@Override
+	public EaseAction copy() {
+		EaseAction copy = obtain(action.copy(), easing);
+
+		copy.target = target;
+		return copy;
+	}
+
 	@Override
 	public float getDuration() {
 		return duration;
@@ -72,6 +80,18 @@ public final class EaseAction extends AbstractWrapperAction {
 		duration = action.getDuration();
 	}
 
+	@Override
+	protected void fastForward(float dtPerStep) {
+		int incarnation = poolItemIncarnation;
+
+		action.fastForward(dtPerStep);
+
+		if (incarnation == poolItemIncarnation) {
+			easedElapsed = elapsed = duration;
+			isDone = true;
+		}
+	}
+
 	@Override
 	protected float doRun(float dt) {
 		elapsed += dt;
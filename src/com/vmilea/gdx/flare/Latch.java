@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare;
+
+// Signal that stays open once fired, like the completion of a load: actions that start waiting
+// afterwards pass right through. close() rearms it.
+//
+public final class Latch extends Signal {
+
+	private boolean isOpen;
+
+	public boolean isOpen() {
+		return isOpen;
+	}
+
+	@Override
+	public void fire() {
+		isOpen = true;
+		super.fire();
+	}
+
+	public void close() {
+		isOpen = false;
+	}
+
+	@Override
+	void subscribe(AwaitSignalAction action) {
+		if (isOpen)
+			action.isSignaled = true;
+		else
+			super.subscribe(action);
+	}
+}
@@ -60,6 +60,20 @@ public final class LazyAction extends AbstractAction {
 		Assert.check(action == null);
 	}
 
+	@Override
+	public LazyAction copy() {
+		LazyAction copy = obtain(generator, data);
+
+		copy.target = target;
+		return copy;
+	}
+
+	@Override
+	public boolean isActorLocal() {
+		// the generator already ran while pinning
+		return super.isActorLocal() && (action != null ? action.isActorLocal() : generator instanceof ActorLocal);
+	}
+
 	@Override
 	protected void doPin() {
 		Assert.check(action == null);
@@ -70,6 +84,25 @@ public final class LazyAction extends AbstractAction {
 		action.restart();
 	}
 
+	@Override
+	public float getSleepTime() {
+		return (action != null ? action.getSleepTime() : 0);
+	}
+
+	@Override
+	protected void fastForward(float dtPerStep) {
+		int incarnation = poolItemIncarnation;
+
+		action.fastForward(dtPerStep);
+
+		if (incarnation == poolItemIncarnation) {
+			isDone = true;
+
+			action.recycle();
+			action = null;
+		}
+	}
+
 	@Override
 	protected float doRun(float dt) {
 		dt = action.run(dt);
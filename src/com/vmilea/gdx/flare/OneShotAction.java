@@ -58,6 +58,24 @@ public final class OneShotAction extends AbstractAction {
 		super.restore();
 	}
 
+	@Override
+	public OneShotAction copy() {
+		if (delegate == null)
+			throw new UnsupportedOperationException("OneShotAction may not be copied after it has run");
+		if (delegate instanceof PoolItem)
+			throw new UnsupportedOperationException("OneShotAction may not be copied, its delegate is disposed after running");
+
+		OneShotAction copy = obtain(delegate, data);
+
+		copy.target = target;
+		return copy;
+	}
+
+	@Override
+	public boolean isActorLocal() {
+		return super.isActorLocal() && delegate instanceof ActorLocal;
+	}
+
 	@Override
 	protected void doPin() {
 
@@ -66,6 +66,14 @@ public final class PaceFloatToAction extends AbstractAction {
 		super.restore();
 	}
 
+	@Override
+	public PaceFloatToAction copy() {
+		PaceFloatToAction copy = obtain(property, value1, speed);
+
+		copy.target = target;
+		return copy;
+	}
+
 	@Override
 	public float getDuration() {
 		StateCheck.check(isPinned, "PaceFloatToAction can't estimate duration unless pinned");
@@ -79,6 +87,13 @@ public final class PaceFloatToAction extends AbstractAction {
 	protected void doPin() {
 	}
 
+	// skipping ignores the speed, so paused actions finish too
+	@Override
+	protected void fastForward(float dtPerStep) {
+		property.set(target, value1);
+		isDone = true;
+	}
+
 	@Override
 	protected float doRun(float dt) {
 		if (speed == 0) {
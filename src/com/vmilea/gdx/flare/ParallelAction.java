@@ -16,10 +16,18 @@
 
 package com.vmilea.gdx.flare;
 
+import java.util.Arrays;
+
 import com.vmilea.gdx.pool.AltPool;
 
+// Unfinished actions are kept compacted, in their original order, so each step only visits the
+// actions that are still running.
+//
 public final class ParallelAction extends AbstractGroupAction {
 
+	private AbstractAction[] live = new AbstractAction[8];
+	private int liveCount;
+
 	public static final AltPool<ParallelAction> pool = ActionPool.make(ParallelAction.class);
 
 	ParallelAction() { } // internal
@@ -44,11 +52,15 @@ public final class ParallelAction extends AbstractGroupAction {
 	@Override
 	public void reset() {
 		super.reset();
+
+		clearLive();
 	}
 
 	@Override
 	public void restore() {
 		super.restore();
+
+		clearLive();
 	}
 
 	@Override
@@ -65,6 +77,19 @@ public final class ParallelAction extends AbstractGroupAction {
 		return reversed;
 	}
 
+	@Override
+	public ParallelAction copy() {
+		ParallelAction copy = obtain();
+
+		copy.actions.ensureCapacity(actions.size);
+		for (int i = 0, n = actions.size; i < n; i++) {
+			copy.actions.add(actions.get(i).copy());
+		}
+
+		copy.target = target;
+		return copy;
+	}
+
 	@Override
 	public float getDuration() {
 		float duration = 0;
@@ -74,34 +99,76 @@ public final class ParallelAction extends AbstractGroupAction {
 		return duration;
 	}
 
+	@Override
+	public float getSleepTime() {
+		float sleepTime = Float.MAX_VALUE;
+		for (int i = 0; i < liveCount; i++) {
+			sleepTime = Math.min(live[i].getSleepTime(), sleepTime);
+		}
+		return sleepTime;
+	}
+
 	@Override
 	protected void doPin() {
-		for (AbstractAction action : actions) {
+		int n = actions.size;
+		if (live.length < n)
+			live = new AbstractAction[Math.max(n, live.length * 2)];
+
+		for (int i = 0; i < n; i++) {
+			AbstractAction action = actions.get(i);
 			action.pin();
+			live[i] = action;
 		}
+		liveCount = n;
 	}
 
 	@Override
 	protected float doRun(float dt) {
-		boolean allDone = true;
-		float excessDt = Float.MAX_VALUE;
+		AbstractAction[] live = this.live;
+		int n = liveCount;
+		int kept = 0;
 
-		for (int i = 0, n = actions.size; i < n; i++) {
-			AbstractAction action = actions.get(i);
+		// only actions finishing on this step determine the excess
+		float excessDt = (n == 0 ? dt : Float.MAX_VALUE);
 
-			if (!action.isDone()) {
-				excessDt = Math.min(action.run(dt), excessDt);
+		for (int i = 0; i < n; i++) {
+			AbstractAction action = live[i];
+			float actionExcessDt = action.run(dt);
 
-				if (allDone && !action.isDone())
-					allDone = false;
-			}
+			if (action.isDone())
+				excessDt = Math.min(actionExcessDt, excessDt);
+			else
+				live[kept++] = action;
 		}
 
-		if (allDone) {
+		Arrays.fill(live, kept, n, null);
+		liveCount = kept;
+
+		if (kept == 0) {
 			isDone = true;
 			return excessDt;
 		} else {
 			return 0;
 		}
 	}
+
+	@Override
+	protected void fastForward(float dtPerStep) {
+		int incarnation = poolItemIncarnation;
+
+		for (int i = 0; i < liveCount; i++) {
+			live[i].fastForward(dtPerStep);
+
+			if (incarnation != poolItemIncarnation)
+				return;
+		}
+
+		clearLive();
+		isDone = true;
+	}
+
+	private void clearLive() {
+		Arrays.fill(live, 0, liveCount, null);
+		liveCount = 0;
+	}
 }
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare;
+
+import com.badlogic.gdx.scenes.scene2d.Action;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Array;
+import com.vmilea.gdx.pool.AltPool;
+import com.vmilea.util.ArgCheck;
+import com.vmilea.util.StateCheck;
+
+// Runs a tree that spends long stretches waiting, like ambient animations pausing between pulses.
+// Whenever the tree only sleeps (see AbstractAction.getSleepTime) for at least the wheel's min park
+// time, it's parked in a TimerWheel and its frames cost a flag check instead of a walk down the
+// tree. On waking it's stepped once with all the time that passed, excess carrying over as usual.
+//
+// The wrapper stays in its actor's action list while parked, so removing and clearing actions work
+// as usual. Time scale changes inside a parked tree take effect when it wakes. A tree waiting on a
+// Signal is parked until fired.
+//
+// Time owed to a parked tree is measured on the wheel, so the wrapper must be a root action, stepped
+// by its actor with stage time. Nested under a time scale, ease or paused parent it would wake with
+// the wrong amount of time, and fails instead.
+//
+public final class ParkableAction extends AbstractWrapperAction {
+
+	private TimerWheel wheel;
+	private float owedDt;
+	private boolean isActing; // stepped by its actor, not by a parent action
+
+	// wheel bookkeeping
+	ParkableAction next, prev;
+	long deadline;
+	int level, slot;
+	boolean isParked;
+	double parkTime, wakeTime;
+	long lastFrame; // wheel frame of the last step
+
+	public static final AltPool<ParkableAction> pool = ActionPool.make(ParkableAction.class);
+
+	ParkableAction() { } // internal
+
+	public static ParkableAction obtain(TimerWheel wheel, AbstractAction action) {
+		ArgCheck.check(wheel != null, "Invalid timer wheel");
+
+		ParkableAction obj = pool.obtain();
+		obj.wheel = wheel;
+		obj.action = action;
+		return obj;
+	}
+
+	public boolean isParked() {
+		return isParked;
+	}
+
+	@Override
+	public void reset() {
+		if (isParked)
+			wheel.unpark(this);
+
+		super.reset();
+
+		wheel = null;
+		owedDt = 0;
+		isActing = false;
+	}
+
+	@Override
+	public void restore() {
+		super.restore();
+
+		owedDt = 0;
+	}
+
+	@Override
+	public ParkableAction copy() {
+		ParkableAction copy = obtain(wheel, action.copy());
+
+		copy.target = target;
+		return copy;
+	}
+
+	@Override
+	public float getDuration() {
+		return action.getDuration();
+	}
+
+	@Override
+	public boolean isActorLocal() {
+		return false; // the wheel is shared
+	}
+
+	@Override
+	public boolean act(float dt) {
+		isActing = true;
+		boolean done = super.act(dt);
+		isActing = false;
+		return done;
+	}
+
+	void wake(float owedDt) {
+		this.owedDt = owedDt;
+	}
+
+	// Wakes the parked wrappers of an actor, when something in their trees may have to run, like a
+	// signal firing. A wrapper that wasn't concerned just parks again after one step.
+	static void wakeOn(Actor actor) {
+		Array<Action> actions = actor.getActions();
+		for (int i = 0, n = actions.size; i < n; i++) {
+			Action action = actions.get(i);
+			if (action instanceof ParkableAction && ((ParkableAction) action).isParked) {
+				ParkableAction parkable = (ParkableAction) action;
+				parkable.wheel.wakeEarly(parkable);
+			}
+		}
+	}
+
+	@Override
+	protected void fastForward(float dtPerStep) {
+		if (isParked)
+			wheel.unpark(this);
+		owedDt = 0;
+
+		int incarnation = poolItemIncarnation;
+
+		action.fastForward(dtPerStep);
+
+		if (incarnation == poolItemIncarnation)
+			isDone = true;
+	}
+
+	@Override
+	protected float doRun(float dt) {
+		if (!isActing)
+			StateCheck.fail("%s must be added to an actor directly, not nested", getClass().getSimpleName());
+
+		lastFrame = wheel.getFrame();
+		if (isParked)
+			return 0;
+
+		dt = action.run(dt + owedDt);
+		owedDt = 0;
+
+		if (action.isDone()) {
+			isDone = true;
+			return dt;
+		}
+
+		float sleepTime = action.getSleepTime();
+		if (sleepTime >= wheel.getMinParkTime())
+			wheel.park(this, sleepTime);
+
+		return 0;
+	}
+}
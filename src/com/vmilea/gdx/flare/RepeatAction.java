@@ -64,11 +64,45 @@ public final class RepeatAction extends AbstractWrapperAction {
 		isInterrupted = false;
 	}
 
+	@Override
+	public RepeatAction copy() {
+		RepeatAction copy = obtain(action.copy(), repeatLimit);
+
+		copy.target = target;
+		return copy;
+	}
+
 	@Override
 	public float getDuration() {
 		return repeatLimit * action.getDuration();
 	}
 
+	@Override
+	public float getSleepTime() {
+		return (isInterrupted ? 0 : action.getSleepTime());
+	}
+
+	@Override
+	protected void fastForward(float dtPerStep) {
+		int incarnation = poolItemIncarnation;
+
+		while (!isInterrupted) {
+			if (!action.isDone()) {
+				action.fastForward(dtPerStep);
+
+				if (incarnation != poolItemIncarnation)
+					return;
+			}
+
+			if (isInterrupted || ++repeatCycle >= repeatLimit)
+				break;
+
+			action.restart();
+		}
+
+		isDone = true;
+	}
+
 	@Override
 	protected float doRun(float dt) {
 		if (isInterrupted) {
@@ -73,6 +73,19 @@ public final class SequenceAction extends AbstractGroupAction {
 		return reversed;
 	}
 
+	@Override
+	public SequenceAction copy() {
+		SequenceAction copy = obtain();
+
+		copy.actions.ensureCapacity(actions.size);
+		for (int i = 0, n = actions.size; i < n; i++) {
+			copy.actions.add(actions.get(i).copy());
+		}
+
+		copy.target = target;
+		return copy;
+	}
+
 	@Override
 	public float getDuration() {
 		float duration = 0;
@@ -82,6 +95,11 @@ public final class SequenceAction extends AbstractGroupAction {
 		return duration;
 	}
 
+	@Override
+	public float getSleepTime() {
+		return actions.get(currentActionIndex).getSleepTime();
+	}
+
 	@Override
 	protected void doPin() {
 		Assert.check(currentActionIndex == 0);
@@ -89,6 +107,31 @@ public final class SequenceAction extends AbstractGroupAction {
 		actions.get(0).pin();
 	}
 
+	@Override
+	protected void fastForward(float dtPerStep) {
+		int incarnation = poolItemIncarnation;
+
+		AbstractAction currentAction = actions.get(currentActionIndex);
+
+		while (true) {
+			if (!currentAction.isDone()) {
+				currentAction.fastForward(dtPerStep);
+
+				// quit immediately if recycled while running
+				if (incarnation != poolItemIncarnation)
+					return;
+			}
+
+			if (++currentActionIndex == actions.size) {
+				isDone = true;
+				return;
+			}
+
+			currentAction = actions.get(currentActionIndex);
+			currentAction.pin();
+		}
+	}
+
 	@Override
 	protected boolean supportsRemoveWhileRunning() {
 		return true;
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Array;
+
+// Event source for AwaitSignalAction. Waiting actions subscribe when pinned and sleep until
+// fire(), instead of polling a predicate: inside a ParkableAction their tree is parked without a
+// deadline, and firing wakes it. Firing wakes the current waiters only; see Latch for a signal
+// that stays set. Use from the render thread.
+//
+public class Signal {
+
+	private final Array<AwaitSignalAction> waiters = new Array<AwaitSignalAction>(false, 8, AwaitSignalAction.class);
+
+	public void fire() {
+		AwaitSignalAction[] items = waiters.items;
+		int n = waiters.size;
+		for (int i = 0; i < n; i++) {
+			items[i].isSignaled = true;
+			items[i].waiterIndex = -1;
+		}
+		for (int i = 0; i < n; i++) {
+			Actor actor = items[i].getActor();
+			if (actor != null)
+				ParkableAction.wakeOn(actor);
+		}
+		waiters.clear();
+	}
+
+	public int getWaiterCount() {
+		return waiters.size;
+	}
+
+	void subscribe(AwaitSignalAction action) {
+		action.waiterIndex = waiters.size;
+		waiters.add(action);
+	}
+
+	void unsubscribe(AwaitSignalAction action) {
+		int index = action.waiterIndex;
+		AwaitSignalAction last = waiters.pop();
+
+		if (last != action) {
+			waiters.items[index] = last;
+			last.waiterIndex = index;
+		}
+		action.waiterIndex = -1;
+	}
+}
@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.vmilea.gdx.flare.actor.FloatActorProperty;
+import com.vmilea.gdx.flare.actor.FloatPairActorProperty;
+import com.vmilea.gdx.pool.AltPool;
+import com.vmilea.util.ArgCheck;
+import com.vmilea.util.StateCheck;
+
+// Pulls a float or float pair property toward value1 like a damped spring. Each step advances the
+// exact solution of the oscillator by dt, so long or uneven frames stay stable with no substeps.
+// The property is read back every step, outside changes just displace the spring; velocity is kept
+// by the action (set it for a fling handoff, or retarget while running to keep momentum).
+//
+// 'frequency' is the undamped oscillation in Hz; 'dampingRatio' is 1 for the fastest approach
+// without overshoot, less to bounce, more to creep. The spring settles once
+// sqrt(offset^2 + (velocity / omega)^2) is within tolerance. That measure never grows, so the
+// settling moment is found exactly within the step and the rest of dt is returned.
+//
+public final class SpringToAction extends AbstractAction {
+
+	public static final float DEFAULT_TOLERANCE = 0.01f;
+
+	private static final float CRITICAL_EPSILON = 1e-4f;
+	private static final int SETTLE_ITERATIONS = 24;
+
+	private FloatActorProperty property;
+	private FloatPairActorProperty pairProperty;
+	private float a1, b1; // value1
+	private float frequency;
+	private float dampingRatio;
+	private float tolerance = DEFAULT_TOLERANCE;
+	private float inverseOmegaSq; // scales velocity into the settling measure
+	private float velocityA0, velocityB0; // initial velocity
+
+	private float velocityA, velocityB;
+
+	// transition for the last dt: [offset, velocity] <- m * [offset, velocity]
+	private float lastDt = -1;
+	private float m00, m01, m10, m11;
+
+	public static final AltPool<SpringToAction> pool = ActionPool.make(SpringToAction.class);
+
+	SpringToAction() { } // internal
+
+	public static SpringToAction obtain(FloatActorProperty property, float value1, float frequency, float dampingRatio) {
+		SpringToAction obj = obtain(frequency, dampingRatio);
+		obj.property = property;
+		obj.a1 = value1;
+		return obj;
+	}
+
+	public static SpringToAction obtain(FloatPairActorProperty property, float a1, float b1, float frequency,
+			float dampingRatio) {
+		SpringToAction obj = obtain(frequency, dampingRatio);
+		obj.pairProperty = property;
+		obj.a1 = a1;
+		obj.b1 = b1;
+		return obj;
+	}
+
+	private static SpringToAction obtain(float frequency, float dampingRatio) {
+		ArgCheck.check(frequency > 0, "Frequency must be greater than 0");
+		ArgCheck.check(dampingRatio > 0, "Damping ratio must be greater than 0");
+
+		SpringToAction obj = pool.obtain();
+		obj.frequency = frequency;
+		obj.dampingRatio = dampingRatio;
+		obj.inverseOmegaSq = 1 / (MathUtils.PI2 * frequency * MathUtils.PI2 * frequency);
+		return obj;
+	}
+
+	// initial velocity, per second
+	public SpringToAction velocity(float velocity) {
+		ArgCheck.check(property != null, "Pair springs take velocity(velocityA, velocityB)");
+
+		return setVelocity(velocity, 0);
+	}
+
+	public SpringToAction velocity(float velocityA, float velocityB) {
+		ArgCheck.check(pairProperty != null, "Single value springs take velocity(velocity)");
+
+		return setVelocity(velocityA, velocityB);
+	}
+
+	private SpringToAction setVelocity(float velocityA, float velocityB) {
+		this.velocityA0 = velocityA;
+		this.velocityB0 = velocityB;
+		if (isPinned) {
+			this.velocityA = velocityA;
+			this.velocityB = velocityB;
+		}
+		return this;
+	}
+
+	public SpringToAction tolerance(float tolerance) {
+		ArgCheck.check(tolerance > 0, "Tolerance must be greater than 0");
+
+		this.tolerance = tolerance;
+		return this;
+	}
+
+	public float getVelocityA() {
+		return (isPinned ? velocityA : velocityA0);
+	}
+
+	public float getVelocityB() {
+		return (isPinned ? velocityB : velocityB0);
+	}
+
+	// moves the rest point, keeping the current velocity
+	public void retarget(float value1) {
+		ArgCheck.check(property != null, "Pair springs take retarget(a1, b1)");
+
+		this.a1 = value1;
+	}
+
+	public void retarget(float a1, float b1) {
+		ArgCheck.check(pairProperty != null, "Single value springs take retarget(value1)");
+
+		this.a1 = a1;
+		this.b1 = b1;
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+
+		property = null;
+		pairProperty = null;
+		a1 = 0;
+		b1 = 0;
+		frequency = 0;
+		dampingRatio = 0;
+		inverseOmegaSq = 0;
+		tolerance = DEFAULT_TOLERANCE;
+		velocityA0 = 0;
+		velocityB0 = 0;
+		velocityA = 0;
+		velocityB = 0;
+		lastDt = -1;
+	}
+
+	@Override
+	public void restore() {
+		super.restore();
+
+		velocityA = 0;
+		velocityB = 0;
+	}
+
+	@Override
+	public SpringToAction copy() {
+		SpringToAction copy = (property != null
+				? obtain(property, a1, frequency, dampingRatio)
+				: obtain(pairProperty, a1, b1, frequency, dampingRatio));
+
+		copy.target = target;
+		copy.setVelocity(velocityA0, velocityB0);
+		copy.tolerance(tolerance);
+		return copy;
+	}
+
+	// time left until settled, from the current state or before pinning from the initial one; the
+	// property is read from the target either way
+	@Override
+	public float getDuration() {
+		StateCheck.check(target != null, "SpringToAction can't estimate duration without a target");
+
+		float offsetA = getOffsetA();
+		float offsetB = getOffsetB();
+		float velocityA = getVelocityA();
+		float velocityB = getVelocityB();
+		if (isSettled(offsetA, velocityA, offsetB, velocityB))
+			return 0;
+
+		// the settling measure never grows, so double the horizon until it's reached
+		float horizon = 1 / frequency;
+		while (true) {
+			prepare(horizon);
+			if (isSettled(m00 * offsetA + m01 * velocityA, m10 * offsetA + m11 * velocityA,
+					m00 * offsetB + m01 * velocityB, m10 * offsetB + m11 * velocityB))
+				return findSettleTime(offsetA, velocityA, offsetB, velocityB, horizon);
+			horizon *= 2;
+		}
+	}
+
+	@Override
+	protected void doPin() {
+		velocityA = velocityA0;
+		velocityB = velocityB0;
+	}
+
+	@Override
+	protected void fastForward(float dtPerStep) {
+		setValue(a1, b1);
+		velocityA = 0;
+		velocityB = 0;
+		isDone = true;
+	}
+
+	@Override
+	protected float doRun(float dt) {
+		float offsetA = getOffsetA();
+		float offsetB = getOffsetB();
+
+		if (isSettled(offsetA, velocityA, offsetB, velocityB)) {
+			fastForward(0);
+			return dt;
+		}
+
+		prepare(dt);
+		float nextOffsetA = m00 * offsetA + m01 * velocityA;
+		float nextVelocityA = m10 * offsetA + m11 * velocityA;
+		float nextOffsetB = m00 * offsetB + m01 * velocityB;
+		float nextVelocityB = m10 * offsetB + m11 * velocityB;
+
+		if (isSettled(nextOffsetA, nextVelocityA, nextOffsetB, nextVelocityB)) {
+			float settleTime = findSettleTime(offsetA, velocityA, offsetB, velocityB, dt);
+			setValue(a1, b1);
+			velocityA = 0;
+			velocityB = 0;
+			isDone = true;
+			return dt - settleTime;
+		}
+
+		setValue(a1 + nextOffsetA, b1 + nextOffsetB);
+		velocityA = nextVelocityA;
+		velocityB = nextVelocityB;
+		return 0;
+	}
+
+	//
+	// private members
+	//
+
+	private float getOffsetA() {
+		return (property != null ? property.get(target) : pairProperty.getA(target)) - a1;
+	}
+
+	private float getOffsetB() {
+		return (property != null ? 0 : pairProperty.getB(target) - b1);
+	}
+
+	private void setValue(float a, float b) {
+		if (property != null)
+			property.set(target, a);
+		else
+			pairProperty.set(target, a, b);
+	}
+
+	private boolean isSettled(float offsetA, float velocityA, float offsetB, float velocityB) {
+		return offsetA * offsetA + offsetB * offsetB + (velocityA * velocityA + velocityB * velocityB) * inverseOmegaSq
+				<= tolerance * tolerance;
+	}
+
+	// earliest time within [0, dt] when the state settles; the state must be settled at dt
+	private float findSettleTime(float offsetA, float velocityA, float offsetB, float velocityB, float dt) {
+		float t0 = 0;
+		float t1 = dt;
+		for (int i = 0; i < SETTLE_ITERATIONS; i++) {
+			float t = 0.5f * (t0 + t1);
+			prepare(t);
+			if (isSettled(m00 * offsetA + m01 * velocityA, m10 * offsetA + m11 * velocityA,
+					m00 * offsetB + m01 * velocityB, m10 * offsetB + m11 * velocityB))
+				t1 = t;
+			else
+				t0 = t;
+		}
+		lastDt = -1; // transition is stale
+		return t1;
+	}
+
+	// transition matrix of the damped oscillator over dt; reused while dt stays the same
+	private void prepare(float dt) {
+		if (dt == lastDt)
+			return;
+		lastDt = dt;
+
+		double omega = MathUtils.PI2 * frequency;
+		double zeta = dampingRatio;
+
+		if (Math.abs(zeta - 1) < CRITICAL_EPSILON) {
+			// x = e^(-omega t) (x0 + (v0 + omega x0) t)
+			double e = Math.exp(-omega * dt);
+			m00 = (float) (e * (1 + omega * dt));
+			m01 = (float) (e * dt);
+			m10 = (float) (-e * omega * omega * dt);
+			m11 = (float) (e * (1 - omega * dt));
+		} else if (zeta < 1) {
+			// x = e^(-zeta omega t) (x0 cos(wd t) + (v0 + zeta omega x0) / wd sin(wd t))
+			double wd = omega * Math.sqrt(1 - zeta * zeta);
+			double e = Math.exp(-zeta * omega * dt);
+			double c = Math.cos(wd * dt);
+			double s = Math.sin(wd * dt);
+			m00 = (float) (e * (c + zeta * omega / wd * s));
+			m01 = (float) (e * s / wd);
+			m10 = (float) (-e * omega * omega / wd * s);
+			m11 = (float) (e * (c - zeta * omega / wd * s));
+		} else {
+			// x = c1 e^(r1 t) + c2 e^(r2 t)
+			double root = omega * Math.sqrt(zeta * zeta - 1);
+			double r1 = -zeta * omega + root;
+			double r2 = -zeta * omega - root;
+			double e1 = Math.exp(r1 * dt);
+			double e2 = Math.exp(r2 * dt);
+			double d = r1 - r2;
+			m00 = (float) ((r1 * e2 - r2 * e1) / d);
+			m01 = (float) ((e1 - e2) / d);
+			m10 = (float) (r1 * r2 * (e2 - e1) / d);
+			m11 = (float) ((r1 * e1 - r2 * e2) / d);
+		}
+	}
+}
@@ -53,12 +53,37 @@ public final class TimeScaleAction extends AbstractWrapperAction {
 		scale = 0;
 	}
 
+	@Override
+	public TimeScaleAction copy() {
+		TimeScaleAction copy = obtain(action.copy(), scale);
+
+		copy.target = target;
+		return copy;
+	}
+
 	@Override
 	public float getDuration() {
 		// estimate based on current time scale
 		return scale * action.getDuration();
 	}
 
+	@Override
+	public float getSleepTime() {
+		// paused actions may be resumed any time, so they never sleep
+		return (scale == 0 ? 0 : action.getSleepTime() / scale);
+	}
+
+	// skipping ignores the time scale, so paused actions finish too
+	@Override
+	protected void fastForward(float dtPerStep) {
+		int incarnation = poolItemIncarnation;
+
+		action.fastForward(dtPerStep);
+
+		if (incarnation == poolItemIncarnation)
+			isDone = true;
+	}
+
 	@Override
 	protected float doRun(float dt) {
 		if (scale == 0) {
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare;
+
+import com.badlogic.gdx.scenes.scene2d.Action;
+import com.vmilea.util.ArgCheck;
+import com.vmilea.util.Assert;
+
+// Hierarchical timer wheel for ParkableAction. Parked actions skip their frames until the wheel
+// wakes them, and then catch up with all the time that passed in a single step.
+//
+// Each level has SLOTS buckets; level k buckets span SLOTS^k ticks. Parking and waking are O(1);
+// advancing a tick empties one level 0 bucket, and every SLOTS^k ticks a level k bucket is
+// cascaded down.
+//
+// Add the wheel to the stage root, so it advances before any actor acts (a group runs its own
+// actions before its children), or call update() right before stage.act().
+//
+// Trees sleeping without a deadline, like those waiting on a Signal, are parked outside the slots
+// until woken early.
+//
+public final class TimerWheel extends Action {
+
+	public static final float DEFAULT_TICK_LENGTH = 1 / 60f;
+	public static final float DEFAULT_MIN_PARK_TIME = 0.25f;
+
+	private static final int LEVEL_BITS = 6;
+	private static final int SLOTS = 1 << LEVEL_BITS;
+	private static final int SLOT_MASK = SLOTS - 1;
+	private static final int LEVELS = 4; // 2^24 ticks, ~3 days at 60Hz; later deadlines cascade again
+
+	private final ParkableAction[][] slots = new ParkableAction[LEVELS][SLOTS];
+	private final float tickLength;
+	private final float minParkTime;
+
+	private long tick;
+	private long frame; // updates so far
+	private double time;
+	private double previousTime;
+	private int parkedCount;
+
+	public TimerWheel() {
+		this(DEFAULT_TICK_LENGTH, DEFAULT_MIN_PARK_TIME);
+	}
+
+	public TimerWheel(float tickLength, float minParkTime) {
+		ArgCheck.check(tickLength > 0, "Tick length must be positive");
+		ArgCheck.check(minParkTime >= tickLength, "Min park time may not be shorter than a tick");
+
+		this.tickLength = tickLength;
+		this.minParkTime = minParkTime;
+	}
+
+	public float getMinParkTime() {
+		return minParkTime;
+	}
+
+	public int getParkedCount() {
+		return parkedCount;
+	}
+
+	@Override
+	public boolean act(float dt) {
+		update(dt);
+		return false;
+	}
+
+	public void update(float dt) {
+		previousTime = time;
+		time += dt;
+		frame++;
+
+		// deadlines round up to whole ticks, so the tick in progress is due as well
+		long lastTick = (long) Math.ceil(time / tickLength);
+		while (tick < lastTick) {
+			advance();
+		}
+	}
+
+	// Parks the action until sleepTime has passed. The frame being stepped is already counted.
+	void park(ParkableAction action, float sleepTime) {
+		Assert.check(!action.isParked);
+
+		action.isParked = true;
+		action.parkTime = time;
+		action.wakeTime = time + sleepTime;
+		if (sleepTime == Float.POSITIVE_INFINITY)
+			action.level = -1; // no deadline
+		else
+			insert(action, (long) Math.ceil(action.wakeTime / tickLength));
+		parkedCount++;
+	}
+
+	void unpark(ParkableAction action) {
+		Assert.check(action.isParked);
+
+		if (action.level != -1)
+			unlink(action);
+		action.isParked = false;
+		parkedCount--;
+	}
+
+	// Wakes the action before its deadline. It's owed the time until the frame it'll be stepped
+	// in: this one, unless it already acted since the last update.
+	void wakeEarly(ParkableAction action) {
+		unpark(action);
+
+		double lastTime = (action.lastFrame == frame ? time : previousTime);
+		action.wake((float) (lastTime - action.parkTime));
+	}
+
+	long getFrame() {
+		return frame;
+	}
+
+	private void advance() {
+		tick++;
+
+		if ((tick & SLOT_MASK) == 0)
+			cascade(1);
+
+		int index = (int) (tick & SLOT_MASK);
+		ParkableAction action = slots[0][index];
+		slots[0][index] = null;
+
+		while (action != null) {
+			ParkableAction next = action.next;
+			action.next = null;
+			action.prev = null;
+
+			if (action.wakeTime > time) {
+				// rounding put it one tick early
+				insert(action, tick + 1);
+			} else {
+				action.isParked = false;
+				// the actor steps it with this frame's dt on top
+				action.wake((float) (previousTime - action.parkTime));
+				parkedCount--;
+			}
+			action = next;
+		}
+	}
+
+	private void cascade(int level) {
+		int index = (int) (tick >>> (level * LEVEL_BITS)) & SLOT_MASK;
+
+		if (index == 0 && level + 1 < LEVELS)
+			cascade(level + 1);
+
+		ParkableAction action = slots[level][index];
+		slots[level][index] = null;
+
+		while (action != null) {
+			ParkableAction next = action.next;
+			action.next = null;
+			action.prev = null;
+			insert(action, action.deadline);
+			action = next;
+		}
+	}
+
+	private void insert(ParkableAction action, long deadline) {
+		// a cascade may land on the current tick, whose slot fires right after
+		long delay = Math.max(deadline - tick, 0);
+		deadline = tick + delay;
+
+		int level = 0;
+		while (level + 1 < LEVELS && delay >= (1L << ((level + 1) * LEVEL_BITS))) {
+			level++;
+		}
+
+		long maxDelay = (1L << ((level + 1) * LEVEL_BITS)) - 1;
+		long slotTick = (delay > maxDelay ? tick + maxDelay : deadline); // too far; cascades again
+		int index = (int) (slotTick >>> (level * LEVEL_BITS)) & SLOT_MASK;
+
+		action.deadline = deadline;
+		action.level = level;
+		action.slot = index;
+		action.prev = null;
+		action.next = slots[level][index];
+		if (action.next != null)
+			action.next.prev = action;
+		slots[level][index] = action;
+	}
+
+	private void unlink(ParkableAction action) {
+		if (action.prev != null)
+			action.prev.next = action.next;
+		else
+			slots[action.level][action.slot] = action.next;
+
+		if (action.next != null)
+			action.next.prev = action.prev;
+
+		action.next = null;
+		action.prev = null;
+	}
+}
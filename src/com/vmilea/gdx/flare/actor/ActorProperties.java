@@ -49,6 +49,38 @@ public final class ActorProperties {
 		}
 	};
 
+	//
+	// Int actor properties, for discrete tracks
+	//
+
+	public static final IntActorProperty visibleFlag = new IntActorProperty() {
+
+		public int get(Actor target) {
+			return target.isVisible() ? 1 : 0;
+		}
+
+		public void set(Actor target, int value) {
+			target.setVisible(value != 0);
+		}
+	};
+
+	private static final Touchable[] touchableValues = Touchable.values();
+
+	public static final IntActorProperty touchableOrdinal = new IntActorProperty() {
+
+		public int get(Actor target) {
+			return target.getTouchable().ordinal();
+		}
+
+		public void set(Actor target, int value) {
+			target.setTouchable(touchableValues[value]);
+		}
+
+		public boolean isInRange(int value) {
+			return value >= 0 && value < touchableValues.length;
+		}
+	};
+
 	//
 	// Float actor properties
 	//
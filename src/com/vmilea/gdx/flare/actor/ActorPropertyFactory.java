@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.actor;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.vmilea.util.ArgCheck;
+
+// Builds float properties from the getters & setters of any Actor subclass. Accessors are bound
+// once through LambdaMetafactory, so get() and set() are plain interface calls on a generated
+// class - no reflection or MethodHandle.invoke on the hot path.
+//
+// The lookup must have private access to its class, pass MethodHandles.lookup() from the calling
+// class. The overloads without a lookup only reach public methods of public classes.
+//
+//   FloatActorProperty glow = ActorPropertyFactory.makeFloat(MethodHandles.lookup(), Lamp.class, "glow");
+//
+public final class ActorPropertyFactory {
+
+	public interface FloatGetter {
+		float get(Actor target);
+	}
+
+	public interface FloatSetter {
+		void set(Actor target, float value);
+	}
+
+	public interface FloatPairSetter {
+		void set(Actor target, float a, float b);
+	}
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(float.class, Actor.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Actor.class, float.class);
+	private static final MethodType PAIR_SETTER_TYPE = MethodType.methodType(void.class, Actor.class, float.class, float.class);
+
+	private static final class GeneratedFloatProperty extends FloatActorProperty {
+		private final FloatGetter getter;
+		private final FloatSetter setter;
+
+		GeneratedFloatProperty(FloatGetter getter, FloatSetter setter) {
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public float get(Actor target) {
+			return getter.get(target);
+		}
+
+		@Override
+		public void set(Actor target, float value) {
+			setter.set(target, value);
+		}
+	}
+
+	private static final class GeneratedFloatPairProperty extends FloatPairActorProperty {
+		private final FloatGetter getterA;
+		private final FloatGetter getterB;
+		private final FloatPairSetter setter;
+
+		GeneratedFloatPairProperty(FloatGetter getterA, FloatGetter getterB, FloatPairSetter setter) {
+			this.getterA = getterA;
+			this.getterB = getterB;
+			this.setter = setter;
+		}
+
+		@Override
+		public float getA(Actor target) {
+			return getterA.get(target);
+		}
+
+		@Override
+		public float getB(Actor target) {
+			return getterB.get(target);
+		}
+
+		@Override
+		public void set(Actor target, float a, float b) {
+			setter.set(target, a, b);
+		}
+	}
+
+	// getName() / setName(float)
+	public static FloatActorProperty makeFloat(Class<? extends Actor> type, String name) {
+		return makeFloat(MethodHandles.lookup(), type, name);
+	}
+
+	public static FloatActorProperty makeFloat(MethodHandles.Lookup lookup, Class<? extends Actor> type, String name) {
+		return makeFloat(lookup, type, "get" + capitalize(name), "set" + capitalize(name));
+	}
+
+	public static FloatActorProperty makeFloat(MethodHandles.Lookup lookup, Class<? extends Actor> type,
+			String getterName, String setterName) {
+		return new GeneratedFloatProperty(getter(lookup, type, getterName), setter(lookup, type, setterName));
+	}
+
+	// getA() / getB() / setter(float, float), e.g. getX / getY / setPosition
+	public static FloatPairActorProperty makeFloatPair(Class<? extends Actor> type,
+			String getterNameA, String getterNameB, String setterName) {
+		return makeFloatPair(MethodHandles.lookup(), type, getterNameA, getterNameB, setterName);
+	}
+
+	public static FloatPairActorProperty makeFloatPair(MethodHandles.Lookup lookup, Class<? extends Actor> type,
+			String getterNameA, String getterNameB, String setterName) {
+		return new GeneratedFloatPairProperty(getter(lookup, type, getterNameA), getter(lookup, type, getterNameB),
+				pairSetter(lookup, type, setterName));
+	}
+
+	public static FloatGetter getter(MethodHandles.Lookup lookup, Class<? extends Actor> type, String name) {
+		MethodHandle handle = findVirtual(lookup, type, name, MethodType.methodType(float.class));
+		return (FloatGetter) bind(lookup, type, handle, FloatGetter.class, "get", GETTER_TYPE);
+	}
+
+	public static FloatSetter setter(MethodHandles.Lookup lookup, Class<? extends Actor> type, String name) {
+		MethodHandle handle = findVirtual(lookup, type, name, MethodType.methodType(void.class, float.class));
+		return (FloatSetter) bind(lookup, type, handle, FloatSetter.class, "set", SETTER_TYPE);
+	}
+
+	public static FloatPairSetter pairSetter(MethodHandles.Lookup lookup, Class<? extends Actor> type, String name) {
+		MethodHandle handle = findVirtual(lookup, type, name, MethodType.methodType(void.class, float.class, float.class));
+		return (FloatPairSetter) bind(lookup, type, handle, FloatPairSetter.class, "set", PAIR_SETTER_TYPE);
+	}
+
+	//
+	// private members
+	//
+
+	private static MethodHandle findVirtual(MethodHandles.Lookup lookup, Class<?> type, String name, MethodType methodType) {
+		try {
+			return lookup.findVirtual(type, name, methodType);
+		} catch (NoSuchMethodException e) {
+			ArgCheck.fail("%s has no method %s%s", type.getSimpleName(), name, methodType);
+		} catch (IllegalAccessException e) {
+			ArgCheck.fail("Can't access %s.%s, pass a lookup with access to it", type.getSimpleName(), name);
+		}
+		return null; // unreachable
+	}
+
+	private static Object bind(MethodHandles.Lookup lookup, Class<?> type, MethodHandle handle,
+			Class<?> interfaceType, String interfaceMethod, MethodType erasedType) {
+		// the accessor casts its Actor argument to 'type'
+		MethodType instantiatedType = erasedType.changeParameterType(0, type);
+
+		try {
+			CallSite site = LambdaMetafactory.metafactory(lookup, interfaceMethod, MethodType.methodType(interfaceType),
+					erasedType, handle, instantiatedType);
+			return site.getTarget().invoke();
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalArgumentException("Can't bind " + handle + " to " + interfaceType.getSimpleName(), e);
+		}
+	}
+
+	private static String capitalize(String name) {
+		ArgCheck.check(name.length() > 0, "Property name must not be empty");
+		return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+	}
+
+	private ActorPropertyFactory() { // sealed
+	}
+}
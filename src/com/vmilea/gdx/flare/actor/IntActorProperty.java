@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.actor;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+
+// Discrete property, without boxing. Booleans map to 0 / 1, enums to their ordinals.
+//
+public abstract class IntActorProperty {
+
+	public abstract int get(Actor target);
+
+	public abstract void set(Actor target, int value);
+
+	// whether set() accepts the value; checked once per key, not per write
+	public boolean isInRange(int value) {
+		return true;
+	}
+}
@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.actor;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Array;
+
+// Opt-in write combining for position & size. Tweens built on the properties below don't touch the
+// actor; their writes are buffered per actor, and flush() applies them with a single setBounds(),
+// setPosition() or setSize() call. So positionChanged() / sizeChanged() and the layout invalidation
+// they trigger happen once per actor per frame, no matter how many tweens moved and resized it.
+//
+// Call flush() after stage.act(). Until then the actor still holds the old values; only these
+// properties read the buffered ones. Buffers are per thread, so actors may be stepped concurrently
+// (see ParallelStepper), but not while flushing.
+//
+public final class WriteCombiner {
+
+	private static final class Entry {
+		Actor actor;
+		float x, y, width, height;
+		boolean isMoved, isResized;
+		int slot;
+
+		void load(Actor actor) {
+			this.actor = actor;
+			x = actor.getX();
+			y = actor.getY();
+			width = actor.getWidth();
+			height = actor.getHeight();
+		}
+
+		void apply() {
+			if (isMoved && isResized)
+				actor.setBounds(x, y, width, height);
+			else if (isMoved)
+				actor.setPosition(x, y);
+			else if (isResized)
+				actor.setSize(width, height);
+
+			actor = null;
+			isMoved = false;
+			isResized = false;
+		}
+	}
+
+	// Open-addressed identity table over the entries of one thread, cleared through the pending list
+	// on flush.
+	private static final class Buffer {
+		Entry[] table = new Entry[64];
+		final Array<Entry> pending = new Array<Entry>(false, 16, Entry.class);
+		final Array<Entry> free = new Array<Entry>(false, 16, Entry.class);
+		Entry last; // writes come in runs, from the actions of one actor
+
+		Entry find(Actor actor) {
+			if (last != null && last.actor == actor)
+				return last;
+
+			Entry[] table = this.table;
+			int mask = table.length - 1;
+			for (int i = hash(actor) & mask; ; i = (i + 1) & mask) {
+				Entry entry = table[i];
+				if (entry == null)
+					return null;
+				if (entry.actor == actor)
+					return (last = entry);
+			}
+		}
+
+		Entry obtain(Actor actor) {
+			Entry entry = find(actor);
+			if (entry == null) {
+				if (2 * (pending.size + 1) > table.length)
+					grow();
+
+				entry = (free.size > 0 ? free.pop() : new Entry());
+				entry.load(actor);
+				insert(entry);
+				pending.add(entry);
+				last = entry;
+			}
+			return entry;
+		}
+
+		void flush() {
+			Entry[] table = this.table;
+			Entry[] items = pending.items;
+			for (int i = 0, n = pending.size; i < n; i++) {
+				Entry entry = items[i];
+				table[entry.slot] = null;
+				entry.apply();
+			}
+
+			free.addAll(pending);
+			pending.clear();
+			last = null;
+		}
+
+		private void insert(Entry entry) {
+			int mask = table.length - 1;
+			int i = hash(entry.actor) & mask;
+			while (table[i] != null) {
+				i = (i + 1) & mask;
+			}
+			table[i] = entry;
+			entry.slot = i;
+		}
+
+		private void grow() {
+			table = new Entry[table.length * 2];
+
+			Entry[] items = pending.items;
+			for (int i = 0, n = pending.size; i < n; i++) {
+				insert(items[i]);
+			}
+		}
+
+		private static int hash(Actor actor) {
+			int h = System.identityHashCode(actor);
+			return h ^ (h >>> 16);
+		}
+	}
+
+	private final Array<Buffer> buffers = new Array<Buffer>(); // guarded by itself
+
+	private final ThreadLocal<Buffer> buffer = new ThreadLocal<Buffer>() {
+		@Override
+		protected Buffer initialValue() {
+			Buffer buffer = new Buffer();
+			synchronized (buffers) {
+				buffers.add(buffer);
+			}
+			return buffer;
+		}
+	};
+
+	public final FloatActorProperty x = new FloatActorProperty() {
+
+		public float get(Actor target) {
+			Entry entry = buffer.get().find(target);
+			return (entry != null ? entry.x : target.getX());
+		}
+
+		public void set(Actor target, float value) {
+			Entry entry = buffer.get().obtain(target);
+			entry.x = value;
+			entry.isMoved = true;
+		}
+	};
+
+	public final FloatActorProperty y = new FloatActorProperty() {
+
+		public float get(Actor target) {
+			Entry entry = buffer.get().find(target);
+			return (entry != null ? entry.y : target.getY());
+		}
+
+		public void set(Actor target, float value) {
+			Entry entry = buffer.get().obtain(target);
+			entry.y = value;
+			entry.isMoved = true;
+		}
+	};
+
+	public final FloatActorProperty width = new FloatActorProperty() {
+
+		public float get(Actor target) {
+			Entry entry = buffer.get().find(target);
+			return (entry != null ? entry.width : target.getWidth());
+		}
+
+		public void set(Actor target, float value) {
+			Entry entry = buffer.get().obtain(target);
+			entry.width = value;
+			entry.isResized = true;
+		}
+	};
+
+	public final FloatActorProperty height = new FloatActorProperty() {
+
+		public float get(Actor target) {
+			Entry entry = buffer.get().find(target);
+			return (entry != null ? entry.height : target.getHeight());
+		}
+
+		public void set(Actor target, float value) {
+			Entry entry = buffer.get().obtain(target);
+			entry.height = value;
+			entry.isResized = true;
+		}
+	};
+
+	// only moves along its own axis, using the buffered size
+	public final FloatActorProperty centerX = new FloatActorProperty() {
+
+		public float get(Actor target) {
+			Entry entry = buffer.get().find(target);
+			return (entry != null ? entry.x + entry.width / 2 : target.getX() + target.getWidth() / 2);
+		}
+
+		public void set(Actor target, float value) {
+			Entry entry = buffer.get().obtain(target);
+			entry.x = value - entry.width / 2;
+			entry.isMoved = true;
+		}
+	};
+
+	public final FloatActorProperty centerY = new FloatActorProperty() {
+
+		public float get(Actor target) {
+			Entry entry = buffer.get().find(target);
+			return (entry != null ? entry.y + entry.height / 2 : target.getY() + target.getHeight() / 2);
+		}
+
+		public void set(Actor target, float value) {
+			Entry entry = buffer.get().obtain(target);
+			entry.y = value - entry.height / 2;
+			entry.isMoved = true;
+		}
+	};
+
+	public final FloatPairActorProperty position = new FloatPairActorProperty() {
+
+		public float getA(Actor target) {
+			return x.get(target);
+		}
+
+		public float getB(Actor target) {
+			return y.get(target);
+		}
+
+		public void set(Actor target, float a, float b) {
+			Entry entry = buffer.get().obtain(target);
+			entry.x = a;
+			entry.y = b;
+			entry.isMoved = true;
+		}
+	};
+
+	public final FloatPairActorProperty size = new FloatPairActorProperty() {
+
+		public float getA(Actor target) {
+			return width.get(target);
+		}
+
+		public float getB(Actor target) {
+			return height.get(target);
+		}
+
+		public void set(Actor target, float a, float b) {
+			Entry entry = buffer.get().obtain(target);
+			entry.width = a;
+			entry.height = b;
+			entry.isResized = true;
+		}
+	};
+
+	public final FloatPairActorProperty center = new FloatPairActorProperty() {
+
+		public float getA(Actor target) {
+			return centerX.get(target);
+		}
+
+		public float getB(Actor target) {
+			return centerY.get(target);
+		}
+
+		public void set(Actor target, float a, float b) {
+			Entry entry = buffer.get().obtain(target);
+			entry.x = a - entry.width / 2;
+			entry.y = b - entry.height / 2;
+			entry.isMoved = true;
+		}
+	};
+
+	// applies buffered writes from all threads; call when no actions are running
+	public void flush() {
+		synchronized (buffers) {
+			for (int i = 0, n = buffers.size; i < n; i++) {
+				buffers.get(i).flush();
+			}
+		}
+	}
+}
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.clip;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.vmilea.gdx.flare.actor.ComplexActorProperty;
+import com.vmilea.gdx.flare.actor.FloatActorProperty;
+import com.vmilea.gdx.flare.actor.FloatPairActorProperty;
+import com.vmilea.gdx.flare.tween.Easing;
+import com.vmilea.gdx.flare.tween.KeyframeTrackAction;
+import com.vmilea.gdx.flare.tween.Keyframes;
+import com.vmilea.gdx.flare.tween.TweenParallelAction;
+import com.vmilea.util.ArgCheck;
+
+// Read-only animation clip over a binary buffer (see ClipFormat), usually memory-mapped. Only the
+// header is read up front; a channel's name and keys are decoded on first use and shared by every
+// instance after. The buffer is read with absolute gets only, so clips may be used from any
+// thread; racing decodes produce equal results and one of them wins.
+//
+// instantiate() plays each channel on the property bound to its name, as a parallel of keyframe
+// tracks. The tracks share the decoded keys.
+//
+public final class Clip {
+
+	private final ByteBuffer buffer;
+	private final float duration;
+	private final int channelCount;
+	private final String[] names; // decoded on demand
+	private final Keyframes[] keyframes; // decoded on demand
+
+	// memory-mapped when the file is on the file system, see ClipFormat.load()
+	public static Clip load(FileHandle file) {
+		return new Clip(ClipFormat.load(file));
+	}
+
+	public static Clip wrap(byte[] bytes) {
+		return new Clip(ByteBuffer.wrap(bytes));
+	}
+
+	public Clip(ByteBuffer buffer) {
+		this.buffer = buffer.slice().order(ClipFormat.ORDER);
+
+		ArgCheck.check(this.buffer.remaining() >= ClipFormat.HEADER_SIZE, "Clip is truncated");
+		ArgCheck.check(this.buffer.getInt(0) == ClipFormat.MAGIC, "Not a clip");
+		if (this.buffer.getShort(4) != ClipFormat.VERSION)
+			ArgCheck.fail("Unsupported clip version %d", this.buffer.getShort(4));
+
+		channelCount = this.buffer.getShort(6) & 0xFFFF;
+		duration = this.buffer.getFloat(8);
+
+		ArgCheck.check(duration >= 0, "Clip duration may not be negative");
+		ArgCheck.check(this.buffer.remaining() >= ClipFormat.HEADER_SIZE + channelCount * ClipFormat.CHANNEL_SIZE,
+				"Clip is truncated");
+
+		names = new String[channelCount];
+		keyframes = new Keyframes[channelCount];
+	}
+
+	public float getDuration() {
+		return duration;
+	}
+
+	public int getChannelCount() {
+		return channelCount;
+	}
+
+	public String getChannelName(int channel) {
+		String name = names[channel];
+		if (name == null)
+			names[channel] = name = ClipFormat.readString(buffer, buffer.getInt(entry(channel)));
+		return name;
+	}
+
+	public int getChannelIndex(String name) {
+		for (int i = 0; i < channelCount; i++) {
+			if (getChannelName(i).equals(name))
+				return i;
+		}
+		return -1;
+	}
+
+	public Keyframes getKeyframes(int channel) {
+		Keyframes keys = keyframes[channel];
+		if (keys == null)
+			keyframes[channel] = keys = decode(channel);
+		return keys;
+	}
+
+	public TweenParallelAction instantiate(ClipProperties properties) {
+		TweenParallelAction action = TweenParallelAction.obtain();
+
+		for (int i = 0; i < channelCount; i++) {
+			Object property = properties.get(getChannelName(i));
+			if (property == null)
+				ArgCheck.fail("No property bound to clip channel '%s'", getChannelName(i));
+
+			Keyframes keys = getKeyframes(i);
+			if (ClipProperties.getComponentCount(property) != keys.getComponentCount())
+				ArgCheck.fail("Clip channel '%s' doesn't match its property", getChannelName(i));
+
+			action.add(obtainTrack(property).keys(keys));
+		}
+		return action;
+	}
+
+	public TweenParallelAction instantiate(ClipProperties properties, Actor target) {
+		TweenParallelAction action = instantiate(properties);
+		action.setTarget(target, true);
+		return action;
+	}
+
+	//
+	// private members
+	//
+
+	private KeyframeTrackAction obtainTrack(Object property) {
+		if (property instanceof FloatActorProperty)
+			return KeyframeTrackAction.obtain((FloatActorProperty) property, duration);
+		else if (property instanceof FloatPairActorProperty)
+			return KeyframeTrackAction.obtain((FloatPairActorProperty) property, duration);
+		else
+			return KeyframeTrackAction.obtain((ComplexActorProperty) property, duration);
+	}
+
+	private Keyframes decode(int channel) {
+		int entry = entry(channel);
+		int count = buffer.get(entry + 4) & 0xFF;
+		int keyCount = buffer.getInt(entry + 8);
+		int offset = buffer.getInt(entry + 12);
+
+		ArgCheck.check(count > 0 && keyCount >= 0, "Clip channel is corrupt");
+		ClipFormat.checkRange(buffer, offset, 4L * keyCount * (1 + count) + keyCount);
+
+		float[] times = new float[keyCount];
+		for (int k = 0; k < keyCount; k++, offset += 4) {
+			times[k] = buffer.getFloat(offset);
+		}
+
+		float[] values = new float[keyCount * count];
+		for (int i = 0; i < values.length; i++, offset += 4) {
+			values[i] = buffer.getFloat(offset);
+		}
+
+		Easing[] easings = new Easing[keyCount];
+		for (int k = 0; k < keyCount; k++, offset++) {
+			easings[k] = ClipFormat.getEasing(buffer.get(offset) & 0xFF);
+		}
+
+		return new Keyframes(count, times, values, easings);
+	}
+
+	private int entry(int channel) {
+		if (channel < 0 || channel >= channelCount)
+			ArgCheck.fail("Channel %d out of range", channel);
+		return ClipFormat.HEADER_SIZE + channel * ClipFormat.CHANNEL_SIZE;
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.clip;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.vmilea.gdx.flare.tween.Easing;
+import com.vmilea.gdx.flare.tween.Easings;
+import com.vmilea.util.ArgCheck;
+
+// Binary clip layout, little-endian, every section 4-byte aligned:
+//
+//   header    int magic, short version, short channelCount, float duration, int reserved
+//   channels  per channel: int nameOffset, byte count, byte reserved, short reserved,
+//             int keyCount, int dataOffset
+//   data      per channel: float times[keyCount], float values[keyCount * count],
+//             byte easingIds[keyCount], padding
+//   names     per channel: short length, UTF-8 bytes, padding
+//
+// Offsets are from the start of the clip. Easing ids index the built-in easings, see
+// Easings.getBuiltIn().
+//
+// Bundles pack many clips into one file, so a library is mapped at once:
+//
+//   header    int magic, short version, short reserved, int clipCount, int reserved
+//   index     per clip: int nameOffset, int clipOffset, int clipLength
+//   clips     each 4-byte aligned
+//   names     per clip: short length, UTF-8 bytes, padding
+//
+final class ClipFormat {
+
+	static final int MAGIC = 0x50434C46; // "FLCP"
+	static final int BUNDLE_MAGIC = 0x42434C46; // "FLCB"
+	static final int VERSION = 1;
+	static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+	static final Charset UTF8 = Charset.forName("UTF-8");
+
+	static final int HEADER_SIZE = 16;
+	static final int CHANNEL_SIZE = 16;
+	static final int BUNDLE_HEADER_SIZE = 16;
+	static final int BUNDLE_ENTRY_SIZE = 12;
+
+	static Easing getEasing(int id) {
+		if (id < 0 || id >= Easings.getBuiltInCount())
+			ArgCheck.fail("Unknown easing id %d", id);
+		return Easings.getBuiltIn(id);
+	}
+
+	static int getEasingId(Easing easing) {
+		int id = Easings.indexOfBuiltIn(easing);
+		if (id == -1)
+			ArgCheck.fail("Only built-in easings can be stored in clips");
+		return id;
+	}
+
+	// Maps the file when it's on the file system. Classpath files and Android assets have no file to
+	// map, so they're read whole.
+	static ByteBuffer load(FileHandle file) {
+		if (file.type() != FileType.Classpath) {
+			File path = file.file();
+			if (path.isFile())
+				return map(path);
+		}
+		return ByteBuffer.wrap(file.readBytes());
+	}
+
+	private static ByteBuffer map(File file) {
+		try {
+			RandomAccessFile input = new RandomAccessFile(file, "r");
+			try {
+				FileChannel channel = input.getChannel();
+				return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			} finally {
+				input.close(); // the mapping stays valid
+			}
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Error mapping file: " + file, e);
+		}
+	}
+
+	// short length, UTF-8 bytes
+	static String readString(ByteBuffer buffer, int offset) {
+		checkRange(buffer, offset, 2);
+		int length = buffer.getShort(offset) & 0xFFFF;
+		checkRange(buffer, offset + 2, length);
+
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = buffer.get(offset + 2 + i);
+		}
+		return new String(bytes, UTF8);
+	}
+
+	static void checkRange(ByteBuffer buffer, int offset, long length) {
+		if (offset < 0 || length < 0 || offset > buffer.limit() - length)
+			ArgCheck.fail("Clip is truncated");
+	}
+
+	static int align(int offset) {
+		return (offset + 3) & ~3;
+	}
+
+	private ClipFormat() { // sealed
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.clip;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.vmilea.util.ArgCheck;
+
+// Named clips, opened on first request and kept for reuse. A clip that's never played is never
+// decoded. Thread-safe.
+//
+// A directory library loads one file per clip. For large libraries prefer a bundle (see
+// ClipWriter.writeBundle): the whole file is loaded once, and clips are slices of it. Files are
+// memory-mapped when they're on the file system, and read whole from the classpath or Android
+// assets.
+//
+public final class ClipLibrary {
+
+	public static final String EXTENSION = ".clip";
+
+	private final FileHandle directory; // or null for bundles
+	private final ByteBuffer bundle;
+	private final ObjectIntMap<String> bundleIndex; // name -> index entry offset
+	private final ObjectMap<String, Clip> clips = new ObjectMap<String, Clip>(); // guarded by this
+
+	public ClipLibrary(FileHandle directory) {
+		// classpath directories can't be listed or tested
+		ArgCheck.check(directory.type() == FileType.Classpath || directory.isDirectory(), "Not a directory: " + directory);
+
+		this.directory = directory;
+		bundle = null;
+		bundleIndex = null;
+	}
+
+	private ClipLibrary(ByteBuffer bundle) {
+		this.bundle = bundle.order(ClipFormat.ORDER);
+		directory = null;
+
+		ArgCheck.check(bundle.limit() >= ClipFormat.BUNDLE_HEADER_SIZE, "Clip bundle is truncated");
+		ArgCheck.check(bundle.getInt(0) == ClipFormat.BUNDLE_MAGIC, "Not a clip bundle");
+		if (bundle.getShort(4) != ClipFormat.VERSION)
+			ArgCheck.fail("Unsupported clip bundle version %d", bundle.getShort(4));
+
+		int clipCount = bundle.getInt(8);
+		ClipFormat.checkRange(bundle, ClipFormat.BUNDLE_HEADER_SIZE, (long) clipCount * ClipFormat.BUNDLE_ENTRY_SIZE);
+
+		bundleIndex = new ObjectIntMap<String>(Math.max(clipCount, 1));
+		for (int i = 0; i < clipCount; i++) {
+			int entry = ClipFormat.BUNDLE_HEADER_SIZE + i * ClipFormat.BUNDLE_ENTRY_SIZE;
+			bundleIndex.put(ClipFormat.readString(bundle, bundle.getInt(entry)), entry);
+		}
+	}
+
+	public static ClipLibrary loadBundle(FileHandle file) {
+		return new ClipLibrary(ClipFormat.load(file));
+	}
+
+	public static ClipLibrary wrapBundle(byte[] bytes) {
+		return new ClipLibrary(ByteBuffer.wrap(bytes));
+	}
+
+	public boolean isBundle() {
+		return (bundle != null);
+	}
+
+	// for directories, loads <directory>/<name>.clip
+	public synchronized Clip get(String name) {
+		Clip clip = clips.get(name);
+		if (clip == null) {
+			clip = (bundle != null ? sliceBundle(name) : Clip.load(directory.child(name + EXTENSION)));
+			clips.put(name, clip);
+		}
+		return clip;
+	}
+
+	public synchronized int getLoadedCount() {
+		return clips.size;
+	}
+
+	// forgets loaded clips; running instances keep theirs
+	public synchronized void clear() {
+		clips.clear();
+	}
+
+	//
+	// private members
+	//
+
+	private Clip sliceBundle(String name) {
+		int entry = bundleIndex.get(name, -1);
+		if (entry == -1)
+			ArgCheck.fail("No clip named '%s' in bundle", name);
+
+		int offset = bundle.getInt(entry + 4);
+		int length = bundle.getInt(entry + 8);
+		ClipFormat.checkRange(bundle, offset, length);
+
+		ByteBuffer slice = bundle.duplicate();
+		((Buffer) slice).limit(offset + length).position(offset); // as Buffer, for Java 8
+		return new Clip(slice);
+	}
+}
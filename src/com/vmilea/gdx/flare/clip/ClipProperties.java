@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.clip;
+
+import com.badlogic.gdx.utils.ObjectMap;
+import com.vmilea.gdx.flare.actor.ActorProperties;
+import com.vmilea.gdx.flare.actor.ComplexActorProperty;
+import com.vmilea.gdx.flare.actor.FloatActorProperty;
+import com.vmilea.gdx.flare.actor.FloatPairActorProperty;
+import com.vmilea.util.ArgCheck;
+
+// Binds clip channel names to actor properties. withBuiltIns() knows the float, pair and color
+// properties of ActorProperties by their field names; add custom ones with put().
+//
+public final class ClipProperties {
+
+	private final ObjectMap<String, Object> properties = new ObjectMap<String, Object>();
+
+	public static ClipProperties withBuiltIns() {
+		ClipProperties obj = new ClipProperties();
+
+		obj.put("x", ActorProperties.x);
+		obj.put("y", ActorProperties.y);
+		obj.put("centerX", ActorProperties.centerX);
+		obj.put("centerY", ActorProperties.centerY);
+		obj.put("width", ActorProperties.width);
+		obj.put("height", ActorProperties.height);
+		obj.put("scaleX", ActorProperties.scaleX);
+		obj.put("scaleY", ActorProperties.scaleY);
+		obj.put("rotation", ActorProperties.rotation);
+		obj.put("alpha", ActorProperties.alpha);
+		obj.put("red", ActorProperties.red);
+		obj.put("green", ActorProperties.green);
+		obj.put("blue", ActorProperties.blue);
+		obj.put("position", ActorProperties.position);
+		obj.put("centerPosition", ActorProperties.centerPosition);
+		obj.put("size", ActorProperties.size);
+		obj.put("scale", ActorProperties.scale);
+		obj.put("color", ActorProperties.color);
+		return obj;
+	}
+
+	public ClipProperties put(String name, FloatActorProperty property) {
+		return putObject(name, property);
+	}
+
+	public ClipProperties put(String name, FloatPairActorProperty property) {
+		return putObject(name, property);
+	}
+
+	public ClipProperties put(String name, ComplexActorProperty property) {
+		return putObject(name, property);
+	}
+
+	// FloatActorProperty, FloatPairActorProperty, ComplexActorProperty, or null
+	public Object get(String name) {
+		return properties.get(name);
+	}
+
+	static int getComponentCount(Object property) {
+		if (property instanceof FloatActorProperty)
+			return 1;
+		else if (property instanceof FloatPairActorProperty)
+			return 2;
+		else
+			return ((ComplexActorProperty) property).getCount();
+	}
+
+	private ClipProperties putObject(String name, Object property) {
+		ArgCheck.check(name != null && property != null, "Name and property may not be null");
+
+		properties.put(name, property);
+		return this;
+	}
+}
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.clip;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.vmilea.gdx.flare.tween.Easing;
+import com.vmilea.gdx.flare.tween.Easings;
+import com.vmilea.util.ArgCheck;
+
+// Builds clips in the binary format read by Clip. Meant for tools & asset pipelines; easings are
+// limited to the built-in ones.
+//
+public final class ClipWriter {
+
+	private static final class Channel {
+		byte[] name;
+		int count;
+		float[] times;
+		float[] values;
+		byte[] easingIds;
+	}
+
+	private final float duration;
+	private final Array<Channel> channels = new Array<Channel>();
+
+	public ClipWriter(float duration) {
+		ArgCheck.check(duration >= 0, "Duration may not be negative");
+
+		this.duration = duration;
+	}
+
+	// linear keys; 'values' holds 'count' floats per key
+	public ClipWriter channel(String name, int count, float[] times, float[] values) {
+		return channel(name, count, times, values, null);
+	}
+
+	// 'easings' holds the easing of the segment ending at each key; null for linear
+	public ClipWriter channel(String name, int count, float[] times, float[] values, Easing[] easings) {
+		ArgCheck.check(count > 0 && count <= 255, "Component count must be in [1, 255]");
+		ArgCheck.check(values.length == times.length * count, "Key has wrong number of values");
+		ArgCheck.check(easings == null || easings.length == times.length, "Need one easing per key");
+		ArgCheck.check(channels.size < 0xFFFF, "Too many channels");
+
+		for (int k = 0; k < times.length; k++) {
+			ArgCheck.check(times[k] >= 0 && times[k] <= duration, "Key time must be within duration");
+			ArgCheck.check(k == 0 || times[k] >= times[k - 1], "Keys must be in order");
+		}
+
+		Channel channel = new Channel();
+		channel.name = name.getBytes(ClipFormat.UTF8);
+		channel.count = count;
+		channel.times = times.clone();
+		channel.values = values.clone();
+		channel.easingIds = new byte[times.length];
+		for (int k = 0; k < times.length; k++) {
+			channel.easingIds[k] = (byte) ClipFormat.getEasingId(easings != null ? easings[k] : Easings.linear);
+		}
+
+		ArgCheck.check(channel.name.length <= 0xFFFF, "Channel name is too long");
+		channels.add(channel);
+		return this;
+	}
+
+	public byte[] toBytes() {
+		int size = ClipFormat.HEADER_SIZE + channels.size * ClipFormat.CHANNEL_SIZE;
+		int[] dataOffsets = new int[channels.size];
+		int[] nameOffsets = new int[channels.size];
+
+		for (int i = 0; i < channels.size; i++) {
+			Channel channel = channels.get(i);
+			dataOffsets[i] = size;
+			size = ClipFormat.align(size + 4 * channel.values.length + 5 * channel.times.length);
+		}
+		for (int i = 0; i < channels.size; i++) {
+			nameOffsets[i] = size;
+			size = ClipFormat.align(size + 2 + channels.get(i).name.length);
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(size).order(ClipFormat.ORDER);
+		buffer.putInt(ClipFormat.MAGIC);
+		buffer.putShort((short) ClipFormat.VERSION);
+		buffer.putShort((short) channels.size);
+		buffer.putFloat(duration);
+		buffer.putInt(0);
+
+		for (int i = 0; i < channels.size; i++) {
+			Channel channel = channels.get(i);
+			buffer.putInt(nameOffsets[i]);
+			buffer.put((byte) channel.count);
+			buffer.put((byte) 0);
+			buffer.putShort((short) 0);
+			buffer.putInt(channel.times.length);
+			buffer.putInt(dataOffsets[i]);
+		}
+
+		// positioned through Buffer, ByteBuffer.position(int) only exists since Java 9
+		for (int i = 0; i < channels.size; i++) {
+			Channel channel = channels.get(i);
+			((Buffer) buffer).position(dataOffsets[i]);
+			for (float time : channel.times) {
+				buffer.putFloat(time);
+			}
+			for (float value : channel.values) {
+				buffer.putFloat(value);
+			}
+			buffer.put(channel.easingIds);
+		}
+
+		for (int i = 0; i < channels.size; i++) {
+			Channel channel = channels.get(i);
+			((Buffer) buffer).position(nameOffsets[i]);
+			buffer.putShort((short) channel.name.length);
+			buffer.put(channel.name);
+		}
+
+		return buffer.array();
+	}
+
+	public void write(FileHandle file) {
+		file.writeBytes(toBytes(), false);
+	}
+
+	// packs clips (as returned by toBytes) into a bundle, see ClipLibrary.loadBundle()
+	public static void writeBundle(FileHandle file, String[] names, byte[][] clips) {
+		ArgCheck.check(names.length == clips.length, "Need one name per clip");
+
+		byte[][] nameBytes = new byte[names.length][];
+		int size = ClipFormat.BUNDLE_HEADER_SIZE + names.length * ClipFormat.BUNDLE_ENTRY_SIZE;
+		int[] clipOffsets = new int[names.length];
+		int[] nameOffsets = new int[names.length];
+
+		for (int i = 0; i < names.length; i++) {
+			clipOffsets[i] = size;
+			size = ClipFormat.align(size + clips[i].length);
+		}
+		for (int i = 0; i < names.length; i++) {
+			nameBytes[i] = names[i].getBytes(ClipFormat.UTF8);
+			ArgCheck.check(nameBytes[i].length <= 0xFFFF, "Clip name is too long");
+
+			nameOffsets[i] = size;
+			size = ClipFormat.align(size + 2 + nameBytes[i].length);
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(size).order(ClipFormat.ORDER);
+		buffer.putInt(ClipFormat.BUNDLE_MAGIC);
+		buffer.putShort((short) ClipFormat.VERSION);
+		buffer.putShort((short) 0);
+		buffer.putInt(names.length);
+		buffer.putInt(0);
+
+		for (int i = 0; i < names.length; i++) {
+			buffer.putInt(nameOffsets[i]);
+			buffer.putInt(clipOffsets[i]);
+			buffer.putInt(clips[i].length);
+		}
+		for (int i = 0; i < names.length; i++) {
+			((Buffer) buffer).position(clipOffsets[i]);
+			buffer.put(clips[i]);
+		}
+		for (int i = 0; i < names.length; i++) {
+			((Buffer) buffer).position(nameOffsets[i]);
+			buffer.putShort((short) nameBytes[i].length);
+			buffer.put(nameBytes[i]);
+		}
+
+		file.writeBytes(buffer.array(), false);
+	}
+}
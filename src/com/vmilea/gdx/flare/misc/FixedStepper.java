@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.misc;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.SnapshotArray;
+import com.vmilea.gdx.flare.actor.ActorProperties;
+import com.vmilea.gdx.flare.actor.FloatActorProperty;
+import com.vmilea.util.ArgCheck;
+import com.vmilea.util.StateCheck;
+
+// Fixed timestep stepping. Real dt is accumulated and the stage is stepped in ticks of constant
+// length, so results don't depend on frame pacing and replay identically everywhere. After a
+// hitch at most maxSteps ticks are run and the remaining backlog is dropped.
+//
+// Leftover time shows in getAlpha(). For smooth motion on fast displays, the given properties of
+// actors running actions are sampled before & after the last tick; wrap drawing in beginRender()
+// & endRender() to draw the blend, and to get the simulated values back afterwards.
+//
+//     stepper.act(stage, Gdx.graphics.getDeltaTime());
+//     stepper.beginRender();
+//     stage.draw();
+//     stepper.endRender();
+//
+public class FixedStepper {
+
+	public static final float DEFAULT_TICK_LENGTH = 1 / 60f;
+	public static final int DEFAULT_MAX_STEPS = 5;
+
+	private static final FloatActorProperty[] DEFAULT_PROPERTIES = {
+			ActorProperties.x, ActorProperties.y, ActorProperties.rotation,
+			ActorProperties.scaleX, ActorProperties.scaleY, ActorProperties.alpha };
+
+	private final float tickLength;
+	private final int maxSteps;
+	private final FloatActorProperty[] properties;
+
+	private float accumulator;
+	private long tickCount;
+	private int droppedTickCount;
+
+	// interpolated actors, with their values before & after the last tick
+	private final Array<Actor> actors = new Array<Actor>(false, 64, Actor.class);
+	private float[] previous = new float[0];
+	private float[] current = new float[0];
+	private boolean isRendering;
+
+	public FixedStepper() {
+		this(DEFAULT_TICK_LENGTH, DEFAULT_MAX_STEPS, DEFAULT_PROPERTIES);
+	}
+
+	public FixedStepper(float tickLength, int maxSteps, FloatActorProperty... properties) {
+		ArgCheck.check(tickLength > 0, "Tick length must be positive");
+		ArgCheck.check(maxSteps > 0, "Max steps must be positive");
+
+		this.tickLength = tickLength;
+		this.maxSteps = maxSteps;
+		this.properties = properties.clone();
+	}
+
+	public float getTickLength() {
+		return tickLength;
+	}
+
+	// ticks run so far
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	// ticks skipped to catch up after hitches
+	public int getDroppedTickCount() {
+		return droppedTickCount;
+	}
+
+	// how far real time is between the last tick and the next one, in [0, 1)
+	public float getAlpha() {
+		return accumulator / tickLength;
+	}
+
+	// Returns the number of ticks run.
+	//
+	public int act(Stage stage, float dt) {
+		return act(stage, stage.getRoot(), dt);
+	}
+
+	public int act(Group root, float dt) {
+		return act(null, root, dt);
+	}
+
+	// Resets timing & samples, e.g. before a replay.
+	//
+	public void reset() {
+		StateCheck.check(!isRendering, "May not reset while rendering");
+
+		accumulator = 0;
+		tickCount = 0;
+		droppedTickCount = 0;
+		actors.clear();
+	}
+
+	public void beginRender() {
+		StateCheck.check(!isRendering, "Already rendering");
+		isRendering = true;
+
+		float alpha = getAlpha();
+		Actor[] items = actors.items;
+		int propertyCount = properties.length;
+
+		for (int i = 0, n = actors.size; i < n; i++) {
+			for (int k = 0, offset = i * propertyCount; k < propertyCount; k++, offset++) {
+				float value0 = previous[offset];
+				float value1 = current[offset];
+				if (value0 == value1)
+					continue;
+
+				FloatActorProperty property = properties[k];
+				float value = property.get(items[i]);
+
+				if (value == value1) {
+					property.set(items[i], value0 + alpha * (value1 - value0));
+				} else {
+					// changed since the tick; leave it be, and out of endRender()
+					previous[offset] = value;
+					current[offset] = value;
+				}
+			}
+		}
+	}
+
+	public void endRender() {
+		StateCheck.check(isRendering, "Not rendering");
+		isRendering = false;
+
+		Actor[] items = actors.items;
+		int propertyCount = properties.length;
+
+		for (int i = 0, n = actors.size; i < n; i++) {
+			for (int k = 0, offset = i * propertyCount; k < propertyCount; k++, offset++) {
+				if (previous[offset] != current[offset])
+					properties[k].set(items[i], current[offset]);
+			}
+		}
+	}
+
+	private int act(Stage stage, Group root, float dt) {
+		int steps = accumulate(dt);
+
+		for (int i = 0; i < steps; i++) {
+			if (i == steps - 1)
+				sample(root);
+
+			if (stage != null)
+				stage.act(tickLength);
+			else
+				root.act(tickLength);
+		}
+
+		if (steps > 0)
+			store(current);
+		return steps;
+	}
+
+	private int accumulate(float dt) {
+		StateCheck.check(!isRendering, "May not act while rendering");
+
+		accumulator += dt;
+		int steps = (int) (accumulator / tickLength);
+
+		if (steps > maxSteps) {
+			droppedTickCount += steps - maxSteps;
+			steps = maxSteps;
+			accumulator = 0;
+		} else {
+			accumulator -= steps * tickLength;
+			if (accumulator < 0)
+				accumulator = 0;
+		}
+
+		tickCount += steps;
+		return steps;
+	}
+
+	private void sample(Group root) {
+		actors.clear();
+		if (properties.length > 0)
+			collect(root);
+
+		int size = actors.size * properties.length;
+		if (previous.length < size) {
+			previous = new float[size * 3 / 2];
+			current = new float[size * 3 / 2];
+		}
+		store(previous);
+	}
+
+	private void collect(Actor actor) {
+		if (actor.getActions().size > 0)
+			actors.add(actor);
+
+		if (actor instanceof Group) {
+			SnapshotArray<Actor> children = ((Group) actor).getChildren();
+			Actor[] items = children.begin();
+			for (int i = 0, n = children.size; i < n; i++) {
+				collect(items[i]);
+			}
+			children.end();
+		}
+	}
+
+	private void store(float[] values) {
+		Actor[] items = actors.items;
+		int propertyCount = properties.length;
+
+		for (int i = 0, n = actors.size; i < n; i++) {
+			for (int k = 0, offset = i * propertyCount; k < propertyCount; k++, offset++) {
+				values[offset] = properties[k].get(items[i]);
+			}
+		}
+	}
+}
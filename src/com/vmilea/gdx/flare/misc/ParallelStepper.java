@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.misc;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.scenes.scene2d.Action;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.SnapshotArray;
+import com.vmilea.gdx.flare.AbstractAction;
+import com.vmilea.gdx.flare.ActionPool;
+import com.vmilea.util.ArgCheck;
+
+// Opt-in replacement for Stage.act(dt) / root.act(dt) that steps actions on a fork-join pool.
+//
+// Actors whose actions are all flare actions confined to the actor (AbstractAction.isActorLocal)
+// are stepped concurrently. Everything else is stepped afterwards on the calling thread, in
+// scene order: actors running foreign actions or actions that cross actors, and actors whose
+// class overrides act(), together with their subtree.
+//
+// Unlike Stage.act(), pointer-over state isn't updated, so it's meant for headless scenes.
+//
+public class ParallelStepper {
+
+	public static final int DEFAULT_GRAIN = 64; // actors per task
+
+	private final ForkJoinPool forkJoinPool;
+	private final int grain;
+
+	private final Array<Actor> actors = new Array<Actor>(true, 256, Actor.class); // in scene order
+	private boolean[] deferred = new boolean[256]; // stepped serially, after the rest
+	private final ObjectMap<Class<?>, Boolean> plainTypes = new ObjectMap<Class<?>, Boolean>();
+	private int localCount, serialCount;
+	private boolean hasActions;
+
+	public ParallelStepper() {
+		this(ForkJoinPool.commonPool(), DEFAULT_GRAIN);
+	}
+
+	public ParallelStepper(ForkJoinPool forkJoinPool, int grain) {
+		ArgCheck.check(forkJoinPool != null, "Invalid fork-join pool");
+		ArgCheck.check(grain > 0, "Grain must be positive");
+
+		this.forkJoinPool = forkJoinPool;
+		this.grain = grain;
+	}
+
+	// actors stepped concurrently by the last act()
+	public int getLocalCount() {
+		return localCount;
+	}
+
+	// actors stepped serially by the last act(), counting subtrees as one
+	public int getSerialCount() {
+		return serialCount;
+	}
+
+	public void act(Stage stage, float dt) {
+		act(stage.getRoot(), dt);
+
+		if (hasActions && stage.getActionsRequestRendering())
+			Gdx.graphics.requestRendering();
+	}
+
+	public void act(Group root, float dt) {
+		actors.clear();
+		hasActions = false;
+
+		// recycling calls the listener, which may not be thread-safe
+		boolean concurrent = (ActionPool.getListener() == null);
+		collect(root, !concurrent);
+
+		Actor[] items = actors.items;
+		boolean[] deferred = this.deferred;
+		int count = actors.size;
+
+		// tasks check each tree right before stepping it, while it's in cache
+		if (count > grain)
+			forkJoinPool.invoke(new StepTask(items, deferred, 0, count, dt, grain));
+		else
+			stepLocal(items, deferred, 0, count, dt);
+
+		serialCount = 0;
+		for (int i = 0; i < count; i++) {
+			if (deferred[i]) {
+				Actor actor = items[i];
+				if (isPlainType(actor.getClass()))
+					step(actor, dt);
+				else
+					actor.act(dt);
+
+				serialCount++;
+			}
+		}
+		localCount = count - serialCount;
+		actors.clear();
+	}
+
+	private void collect(Actor actor, boolean serial) {
+		if (!isPlainType(actor.getClass())) {
+			add(actor, true);
+			return;
+		}
+
+		if (actor.getActions().size > 0) {
+			hasActions = true;
+			add(actor, serial);
+		}
+
+		if (actor instanceof Group) {
+			SnapshotArray<Actor> children = ((Group) actor).getChildren();
+			Actor[] items = children.begin();
+			for (int i = 0, n = children.size; i < n; i++) {
+				collect(items[i], serial);
+			}
+			children.end();
+		}
+	}
+
+	private void add(Actor actor, boolean serial) {
+		int index = actors.size;
+		if (index == deferred.length) {
+			boolean[] newDeferred = new boolean[index * 2];
+			System.arraycopy(deferred, 0, newDeferred, 0, index);
+			deferred = newDeferred;
+		}
+
+		actors.add(actor);
+		deferred[index] = serial;
+	}
+
+	private static boolean isLocal(Array<Action> actions) {
+		for (int i = 0, n = actions.size; i < n; i++) {
+			Action action = actions.get(i);
+			if (!(action instanceof AbstractAction) || !((AbstractAction) action).isActorLocalCached())
+				return false;
+		}
+		return true;
+	}
+
+	// true unless act() does more than stepping actions & children
+	private boolean isPlainType(Class<?> type) {
+		if (type == Actor.class || type == Group.class)
+			return true;
+
+		Boolean isPlain = plainTypes.get(type);
+
+		if (isPlain == null) {
+			try {
+				Class<?> declaringType = type.getMethod("act", float.class).getDeclaringClass();
+				isPlain = (declaringType == Actor.class || declaringType == Group.class);
+			} catch (NoSuchMethodException e) {
+				isPlain = false;
+			}
+			plainTypes.put(type, isPlain);
+		}
+		return isPlain;
+	}
+
+	private static void stepLocal(Actor[] actors, boolean[] deferred, int from, int to, float dt) {
+		for (int i = from; i < to; i++) {
+			if (!deferred[i]) {
+				Actor actor = actors[i];
+				if (isLocal(actor.getActions()))
+					step(actor, dt);
+				else
+					deferred[i] = true;
+			}
+		}
+	}
+
+	// same as Actor.act(), minus the rendering request
+	private static void step(Actor actor, float dt) {
+		Array<Action> actions = actor.getActions();
+
+		for (int i = 0; i < actions.size; i++) {
+			Action action = actions.get(i);
+
+			if (action.act(dt) && i < actions.size) {
+				Action current = actions.get(i);
+				int actionIndex = (current == action ? i : actions.indexOf(action, true));
+
+				if (actionIndex != -1) {
+					actions.removeIndex(actionIndex);
+					action.setActor(null);
+					i--;
+				}
+			}
+		}
+	}
+
+	private static final class StepTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Actor[] actors;
+		private final boolean[] deferred;
+		private final int from, to;
+		private final float dt;
+		private final int grain;
+
+		StepTask(Actor[] actors, boolean[] deferred, int from, int to, float dt, int grain) {
+			this.actors = actors;
+			this.deferred = deferred;
+			this.from = from;
+			this.to = to;
+			this.dt = dt;
+			this.grain = grain;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= grain) {
+				stepLocal(actors, deferred, from, to, dt);
+			} else {
+				int mid = (from + to) >>> 1;
+				invokeAll(new StepTask(actors, deferred, from, mid, dt, grain),
+						new StepTask(actors, deferred, mid, to, dt, grain));
+			}
+		}
+	}
+}
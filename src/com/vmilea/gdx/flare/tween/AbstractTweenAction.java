@@ -20,11 +20,18 @@ import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.vmilea.gdx.flare.AbstractAction;
 import com.vmilea.util.Assert;
 
+// Tweens may be flipped while running, to play backward from where they are; combiners flip as a
+// whole. In ping-pong mode a tween never finishes, but rests at whichever end it reaches until
+// flipped again, so a hover animation can be toggled without allocating or pinning anew.
+//
 public abstract class AbstractTweenAction extends AbstractAction {
 
 	protected float duration;
 	protected float elapsed;
 	protected Easing easing = Easings.linear;
+	protected boolean isBackward;
+	protected boolean isPingPong;
+	protected boolean hasReachedEnd; // ping-pong resting point
 
 	protected abstract void applyRatio(float ratio);
 
@@ -35,13 +42,23 @@ public abstract class AbstractTweenAction extends AbstractAction {
 		duration = 0;
 		elapsed = 0;
 		easing = Easings.linear;
+		isBackward = false;
+		isPingPong = false;
+		hasReachedEnd = false;
 	}
 
 	@Override
 	public void restore() {
 		super.restore();
 
-		elapsed = 0;
+		elapsed = (isBackward ? duration : 0);
+		hasReachedEnd = false;
+	}
+
+	// sub-tweens are driven through applyRatio() and never finish on their own
+	void restoreSubaction() {
+		isDone = true;
+		restore();
 	}
 
 	@Override
@@ -57,8 +74,29 @@ public abstract class AbstractTweenAction extends AbstractAction {
 		return null;
 	}
 
+	@Override
+	public AbstractTweenAction copy() {
+		throw new UnsupportedOperationException(getClass().getSimpleName() + " doesn't support copying");
+	}
+
+	// copies target, easing and direction; the copy starts from the end it plays away from
+	protected <T extends AbstractTweenAction> T copySetup(T copy) {
+		copy.target = target;
+		copy.easing = easing;
+		copy.isBackward = isBackward;
+		copy.isPingPong = isPingPong;
+		copy.elapsed = (isBackward ? copy.duration : 0);
+		return copy;
+	}
+
 	@Override
 	protected float doRun(float dt) {
+		if (isBackward)
+			return doRunBackward(dt);
+
+		if (hasReachedEnd)
+			return 0; // resting
+
 		elapsed += dt;
 
 		if (elapsed < duration) {
@@ -68,17 +106,55 @@ public abstract class AbstractTweenAction extends AbstractAction {
 			float dtExcess = elapsed - duration;
 			elapsed = duration;
 			seek(1);
-			isDone = true;
-			return dtExcess;
+			return finish(dtExcess);
 		}
 	}
 
+	private float doRunBackward(float dt) {
+		if (hasReachedEnd)
+			return 0; // resting
+
+		elapsed -= dt;
+
+		if (elapsed > 0) {
+			seek(elapsed / duration);
+			return 0;
+		} else {
+			float dtExcess = -elapsed;
+			elapsed = 0;
+			seek(0);
+			return finish(dtExcess);
+		}
+	}
+
+	// ends in the direction of playback, even in ping-pong mode
+	@Override
+	protected void fastForward(float dtPerStep) {
+		if (isBackward) {
+			elapsed = 0;
+			seek(0);
+		} else {
+			elapsed = duration;
+			seek(1);
+		}
+		isDone = true;
+	}
+
+	private float finish(float dtExcess) {
+		if (isPingPong) {
+			hasReachedEnd = true;
+			return 0;
+		}
+
+		isDone = true;
+		return dtExcess;
+	}
+
 	@Override
 	public AbstractTweenAction skipToEnd(boolean removeFromActor) {
 		int incarnation = poolItemIncarnation;
-		seek(1);
+		fastForward(0);
 		Assert.check(incarnation == poolItemIncarnation);
-		isDone = true;
 
 		if (removeFromActor)
 			actor.removeAction(this);
@@ -121,6 +197,31 @@ public abstract class AbstractTweenAction extends AbstractAction {
 		return this;
 	}
 
+	public boolean isBackward() {
+		return isBackward;
+	}
+
+	// Sets the playback direction, keeping the current position. Applies to the root tween only;
+	// sub-tweens are driven by their combiner.
+	public void setBackward(boolean isBackward) {
+		if (this.isBackward != isBackward)
+			flip();
+	}
+
+	public void flip() {
+		isBackward = !isBackward;
+		hasReachedEnd = false;
+	}
+
+	public boolean isPingPong() {
+		return isPingPong;
+	}
+
+	public AbstractTweenAction pingPong() {
+		isPingPong = true;
+		return this;
+	}
+
 	protected void pinPush() {
 		seek(1.0f);
 	}
@@ -17,19 +17,25 @@
 package com.vmilea.gdx.flare.tween;
 
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Array;
+import com.vmilea.util.ArgCheck;
 
 public abstract class AbstractTweenCombinerAction extends AbstractTweenAction { // internal
 
-	protected AbstractTweenAction action1;
-	protected AbstractTweenAction action2;
+	protected final Array<AbstractTweenAction> actions = new Array<AbstractTweenAction>(true, 4, AbstractTweenAction.class);
+
+	public int getActionCount() {
+		return actions.size;
+	}
 
 	@Override
 	public void setActor(Actor actor) {
 		super.setActor(actor);
 
 		if (actor != null) {
-			action1.setActor(actor);
-			action2.setActor(actor);
+			for (int i = 0, n = actions.size; i < n; i++) {
+				actions.items[i].setActor(actor);
+			}
 		}
 	}
 
@@ -37,32 +43,55 @@ public abstract class AbstractTweenCombinerAction extends AbstractTweenAction {
 	public void setTarget(Actor target, boolean replaceSubactionsTarget) {
 		super.setTarget(target, replaceSubactionsTarget);
 
-		if (action1.getTarget() == null || replaceSubactionsTarget)
-			action1.setTarget(target, replaceSubactionsTarget);
-		if (action2.getTarget() == null || replaceSubactionsTarget)
-			action2.setTarget(target, replaceSubactionsTarget);
+		for (int i = 0, n = actions.size; i < n; i++) {
+			AbstractTweenAction action = actions.items[i];
+			if (action.getTarget() == null || replaceSubactionsTarget)
+				action.setTarget(target, replaceSubactionsTarget);
+		}
 	}
 
 	@Override
 	public void reset() {
 		super.reset();
 
-		action1.recycle();
-		action1 = null;
-		action2.recycle();
-		action2 = null;
+		for (int i = 0, n = actions.size; i < n; i++) {
+			actions.items[i].recycle();
+		}
+		actions.clear();
 	}
 
 	@Override
 	public void restore() {
 		super.restore();
 
-		action1.restore();
-		action2.restore();
+		for (int i = 0, n = actions.size; i < n; i++) {
+			actions.items[i].restoreSubaction();
+		}
 	}
 
 	@Override
 	public boolean isReversible() {
-		return action1.isReversible() && action2.isReversible();
+		for (int i = 0, n = actions.size; i < n; i++) {
+			if (!actions.items[i].isReversible())
+				return false;
+		}
+		return true;
+	}
+
+	@Override
+	public boolean isActorLocal() {
+		if (!super.isActorLocal())
+			return false;
+
+		for (int i = 0, n = actions.size; i < n; i++) {
+			if (!actions.items[i].isActorLocal())
+				return false;
+		}
+		return true;
+	}
+
+	protected void checkAdd(AbstractTweenAction action) {
+		ArgCheck.check(isDone && !isPinned, "May not add actions while running");
+		ArgCheck.check(action != null, "Action may not be null");
 	}
 }
@@ -41,6 +41,16 @@ public final class DelayAction extends AbstractTweenAction {
 		return obtain(duration);
 	}
 	
+	@Override
+	public DelayAction copy() {
+		return copySetup(obtain(duration));
+	}
+	
+	@Override
+	public float getSleepTime() {
+		return (isBackward ? elapsed : duration - elapsed);
+	}
+
 	@Override
 	protected void doPin() {
 	}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.tween;
+
+import com.vmilea.gdx.flare.ActionPool;
+import com.vmilea.gdx.flare.actor.IntActorProperty;
+import com.vmilea.gdx.pool.AltPool;
+import com.vmilea.util.ArgCheck;
+import com.vmilea.util.StateCheck;
+
+// Switches a discrete property (see IntActorProperty) at exact times. Before the first key the
+// property keeps the value it had when pinned. Keys are kept in primitive arrays and found with a
+// cursor, and the property is only written when its value changes.
+//
+public final class DiscreteTrackAction extends AbstractTweenAction {
+
+	private IntActorProperty property;
+	private float[] times = new float[4]; // ascending
+	private int[] values = new int[4];
+	private int keyCount;
+
+	private int value0;
+	private int current; // last value written, or value0
+	private int cursor; // keys [0, cursor) are at or before the last applied time
+
+	public static final AltPool<DiscreteTrackAction> pool = ActionPool.make(DiscreteTrackAction.class);
+
+	DiscreteTrackAction() { } // internal
+
+	public static DiscreteTrackAction obtain(IntActorProperty property, float duration) {
+		ArgCheck.check(duration >= 0, "Duration may not be negative");
+
+		DiscreteTrackAction obj = pool.obtain();
+		obj.property = property;
+		obj.duration = duration;
+		return obj;
+	}
+
+	public DiscreteTrackAction key(float time, int value) {
+		ArgCheck.check(isDone && !isPinned, "May not add keys while running");
+		ArgCheck.check(time >= 0 && time <= duration, "Key time must be within duration");
+		ArgCheck.check(keyCount == 0 || time >= times[keyCount - 1], "Keys must be added in order");
+		if (!property.isInRange(value))
+			ArgCheck.fail("Key value %d is out of range", value);
+
+		if (keyCount == times.length) {
+			float[] newTimes = new float[keyCount * 2];
+			System.arraycopy(times, 0, newTimes, 0, keyCount);
+			times = newTimes;
+
+			int[] newValues = new int[keyCount * 2];
+			System.arraycopy(values, 0, newValues, 0, keyCount);
+			values = newValues;
+		}
+
+		times[keyCount] = time;
+		values[keyCount] = value;
+		keyCount++;
+		return this;
+	}
+
+	public DiscreteTrackAction key(float time, boolean value) {
+		return key(time, value ? 1 : 0);
+	}
+
+	public DiscreteTrackAction key(float time, Enum<?> value) {
+		return key(time, value.ordinal());
+	}
+
+	public int getKeyCount() {
+		return keyCount;
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+
+		property = null;
+		keyCount = 0;
+		value0 = 0;
+		current = 0;
+		cursor = 0;
+	}
+
+	@Override
+	public void restore() {
+		super.restore();
+
+		cursor = 0;
+	}
+
+	@Override
+	public boolean isReversible() {
+		return isPinned;
+	}
+
+	@Override
+	public DiscreteTrackAction reversed() {
+		if (!isReversible())
+			StateCheck.fail("%s can't be reversed unless pinned", getClass().getSimpleName());
+
+		DiscreteTrackAction reversed = obtain(property, duration);
+
+		// crossing key k backward restores the value before it
+		for (int k = keyCount - 1; k >= 0; k--) {
+			reversed.key(duration - times[k], (k == 0 ? value0 : values[k - 1]));
+		}
+
+		reversed.target = target;
+		reversed.ease(easing.reversed());
+		return reversed;
+	}
+
+	@Override
+	public DiscreteTrackAction copy() {
+		DiscreteTrackAction copy = obtain(property, duration);
+
+		for (int k = 0; k < keyCount; k++) {
+			copy.key(times[k], values[k]);
+		}
+
+		return copySetup(copy);
+	}
+
+	@Override
+	protected void doPin() {
+		value0 = property.get(target);
+		current = value0;
+	}
+
+	@Override
+	protected void applyRatio(float ratio) {
+		float time = ratio * duration;
+		float[] times = this.times;
+		int k = cursor;
+
+		while (k < keyCount && times[k] <= time) {
+			k++;
+		}
+		while (k > 0 && times[k - 1] > time) {
+			k--;
+		}
+		cursor = k;
+
+		int value = (k == 0 ? value0 : values[k - 1]);
+		if (value != current) {
+			current = value;
+			property.set(target, value);
+		}
+	}
+}
@@ -21,4 +21,46 @@ public abstract class Easing {
 	public abstract float get(float ratio);
 	
 	public abstract Easing reversed();
+
+	// Composition. Results are folded into a single evaluator where possible, so they cost about
+	// as much as a built-in curve at runtime (see EasingComposer). More in Easings.blend() and
+	// Easings.piecewise().
+
+	// this over the first half, then back out along its reversal; ease in -> ease in/out
+	public Easing mirror() {
+		return EasingComposer.mirror(this);
+	}
+
+	// this over the first half, then backwards to 0
+	public Easing yoyo() {
+		return EasingComposer.yoyo(this);
+	}
+
+	// this up to 'split' (progress too), then next
+	public Easing then(Easing next, float split) {
+		return EasingComposer.chain(this, next, split);
+	}
+
+	public Easing then(Easing next) {
+		return EasingComposer.chain(this, next, 0.5f);
+	}
+
+	// cuts overshoot
+	public Easing clamp() {
+		return EasingComposer.clamp(this, 0, 1);
+	}
+
+	public Easing clamp(float min, float max) {
+		return EasingComposer.clamp(this, min, max);
+	}
+
+	// get() * factor
+	public Easing scale(float factor) {
+		return EasingComposer.transform(this, factor, 0);
+	}
+
+	// get() + delta
+	public Easing offset(float delta) {
+		return EasingComposer.transform(this, 1, delta);
+	}
 }
@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.tween;
+
+import com.vmilea.util.ArgCheck;
+
+// Builds the compositions behind Easing.mirror(), then() & co. as small trees of nodes, then folds
+// each tree into a single evaluator where it can:
+//
+// - if every leaf is linear or a polynomial curve from Easings, into one PolynomialEasing; exact,
+//   and about as cheap as a built-in curve however deep the tree
+// - else if every leaf is smooth (sine, expo, bezier, tabled or polynomial curves) and the pieces
+//   meet, into one cubic TabledEasing, sampled from the tree; around 1e-6 off on smooth stretches,
+//   up to a few 1e-3 where pieces meet at sharply different slopes
+// - else the tree is kept, evaluated by nested calls
+//
+// Composing a folded easing folds again from the original tree, so tables aren't resampled from
+// tables.
+//
+final class EasingComposer {
+
+	static final int TABLE_RESOLUTION = TabledEasing.DEFAULT_RESOLUTION;
+
+	private static final float CONTINUITY_EPSILON = 2e-3f; // expo curves miss their ends by 1e-3
+	private static final float[] HALF = { 0.5f };
+
+	//
+	// operators
+	//
+
+	static Easing mirror(Easing easing) {
+		return fold(new Piecewise(HALF, affine(easing, 2, 0, 0.5f, 0), affine(easing, -2, 2, -0.5f, 1)));
+	}
+
+	static Easing yoyo(Easing easing) {
+		return fold(new Piecewise(HALF, affine(easing, 2, 0, 1, 0), affine(easing, -2, 2, 1, 0)));
+	}
+
+	static Easing clamp(Easing easing, float min, float max) {
+		ArgCheck.check(min <= max, "Clamp min may not exceed max");
+
+		return fold(new Clamp(unwrap(easing), min, max));
+	}
+
+	static Easing transform(Easing easing, float scale, float offset) {
+		return fold(affine(easing, 1, 0, scale, offset));
+	}
+
+	static Easing chain(Easing first, Easing second, float split) {
+		ArgCheck.check(split > 0 && split < 1, "Split must be within (0, 1)");
+
+		return piecewise(new float[] { 0, split, 1 }, new float[] { 0, split, 1 }, first, second);
+	}
+
+	static Easing piecewise(float[] times, float[] values, Easing... pieces) {
+		int count = pieces.length;
+		ArgCheck.check(count > 0, "Need at least one piece");
+		ArgCheck.check(times.length == count + 1 && values.length == count + 1, "Need one more time & value than pieces");
+		ArgCheck.check(times[0] == 0 && times[count] == 1, "Times must run from 0 to 1");
+
+		float[] breaks = new float[count - 1];
+		Easing[] parts = new Easing[count];
+		for (int i = 0; i < count; i++) {
+			float t0 = times[i];
+			float dt = times[i + 1] - t0;
+			ArgCheck.check(dt > 0, "Times must be increasing");
+
+			if (i > 0)
+				breaks[i - 1] = t0;
+			parts[i] = affine(pieces[i], 1 / dt, -t0 / dt, values[i + 1] - values[i], values[i]);
+		}
+		return fold(new Piecewise(breaks, parts));
+	}
+
+	static Easing blend(Easing a, Easing b, float weight) {
+		return fold(new Sum(unwrap(a), 1 - weight, unwrap(b), weight));
+	}
+
+	//
+	// nodes, evaluated exactly
+	//
+
+	abstract static class Node extends Easing {
+		@Override
+		public Easing reversed() {
+			return new Affine(this, -1, 1, -1, 1); // stays a tree, only unfoldable trees are reversed this way
+		}
+	}
+
+	// outScale * easing(inScale * t + inOffset) + outOffset
+	static final class Affine extends Node {
+		final Easing easing;
+		final float inScale, inOffset, outScale, outOffset;
+
+		Affine(Easing easing, float inScale, float inOffset, float outScale, float outOffset) {
+			this.easing = easing;
+			this.inScale = inScale;
+			this.inOffset = inOffset;
+			this.outScale = outScale;
+			this.outOffset = outOffset;
+		}
+
+		@Override
+		public float get(float t) {
+			return outScale * easing.get(inScale * t + inOffset) + outOffset;
+		}
+	}
+
+	// parts[i] over [breaks[i - 1], breaks[i]), each taking the outer ratio
+	static final class Piecewise extends Node {
+		final float[] breaks;
+		final Easing[] parts;
+
+		Piecewise(float[] breaks, Easing... parts) {
+			this.breaks = breaks;
+			this.parts = parts;
+		}
+
+		@Override
+		public float get(float t) {
+			int i = 0;
+			while (i < breaks.length && t >= breaks[i]) {
+				i++;
+			}
+			return parts[i].get(t);
+		}
+	}
+
+	static final class Sum extends Node {
+		final Easing a, b;
+		final float wa, wb;
+
+		Sum(Easing a, float wa, Easing b, float wb) {
+			this.a = a;
+			this.wa = wa;
+			this.b = b;
+			this.wb = wb;
+		}
+
+		@Override
+		public float get(float t) {
+			return wa * a.get(t) + wb * b.get(t);
+		}
+	}
+
+	static final class Clamp extends Node {
+		final Easing easing;
+		final float min, max;
+
+		Clamp(Easing easing, float min, float max) {
+			this.easing = easing;
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		public float get(float t) {
+			return Math.max(min, Math.min(max, easing.get(t)));
+		}
+	}
+
+	//
+	// private members
+	//
+
+	// merges nested affine nodes
+	private static Affine affine(Easing easing, float inScale, float inOffset, float outScale, float outOffset) {
+		easing = unwrap(easing);
+
+		if (easing instanceof Affine) {
+			Affine inner = (Affine) easing;
+			return new Affine(inner.easing, inner.inScale * inScale, inner.inScale * inOffset + inner.inOffset,
+					outScale * inner.outScale, outScale * inner.outOffset + outOffset);
+		}
+		return new Affine(easing, inScale, inOffset, outScale, outOffset);
+	}
+
+	// back to the tree of a folded table
+	private static Easing unwrap(Easing easing) {
+		ArgCheck.check(easing != null, "Easing may not be null");
+
+		if (easing instanceof TabledEasing) {
+			Easing source = ((TabledEasing) easing).getSource();
+			if (source instanceof Node)
+				return source;
+		}
+		return easing;
+	}
+
+	private static Easing fold(Node tree) {
+		PolynomialEasing polynomial = toPolynomial(tree);
+		if (polynomial != null)
+			return polynomial;
+
+		if (isSmooth(tree))
+			return new TabledEasing(tree, TABLE_RESOLUTION, TabledEasing.Interpolation.CUBIC);
+
+		return tree;
+	}
+
+	private static PolynomialEasing toPolynomial(Easing easing) {
+		if (easing instanceof PolynomialEasing)
+			return (PolynomialEasing) easing;
+
+		if (easing instanceof Affine) {
+			Affine node = (Affine) easing;
+			PolynomialEasing inner = toPolynomial(node.easing);
+			return (inner == null ? null : inner.transform(node.inScale, node.inOffset, node.outScale, node.outOffset));
+		}
+
+		if (easing instanceof Piecewise) {
+			Piecewise node = (Piecewise) easing;
+			PolynomialEasing[] parts = new PolynomialEasing[node.parts.length];
+			for (int i = 0; i < parts.length; i++) {
+				parts[i] = toPolynomial(node.parts[i]);
+				if (parts[i] == null)
+					return null;
+			}
+
+			double[] breaks = new double[node.breaks.length];
+			for (int i = 0; i < breaks.length; i++) {
+				breaks[i] = node.breaks[i];
+			}
+			return PolynomialEasing.join(breaks, parts);
+		}
+
+		if (easing instanceof Sum) {
+			Sum node = (Sum) easing;
+			PolynomialEasing a = toPolynomial(node.a);
+			PolynomialEasing b = toPolynomial(node.b);
+			return (a == null || b == null ? null : PolynomialEasing.add(a, node.wa, b, node.wb));
+		}
+
+		if (easing instanceof Clamp) {
+			Clamp node = (Clamp) easing;
+			PolynomialEasing inner = toPolynomial(node.easing);
+			return (inner == null ? null : inner.clamped(node.min, node.max));
+		}
+
+		return builtInPolynomial(easing);
+	}
+
+	private static PolynomialEasing builtInPolynomial(Easing easing) {
+		int degree;
+		if (easing == Easings.linear)
+			return PolynomialEasing.power(1);
+		else if (easing == Easings.easeInQuad || easing == Easings.easeOutQuad || easing == Easings.easeInOutQuad)
+			degree = 2;
+		else if (easing == Easings.easeInCubic || easing == Easings.easeOutCubic || easing == Easings.easeInOutCubic)
+			degree = 3;
+		else if (easing == Easings.easeInQuart || easing == Easings.easeOutQuart || easing == Easings.easeInOutQuart)
+			degree = 4;
+		else if (easing == Easings.easeInQuint || easing == Easings.easeOutQuint || easing == Easings.easeInOutQuint)
+			degree = 5;
+		else
+			return null;
+
+		PolynomialEasing in = PolynomialEasing.power(degree);
+		if (easing == Easings.easeInQuad || easing == Easings.easeInCubic || easing == Easings.easeInQuart
+				|| easing == Easings.easeInQuint)
+			return in;
+
+		PolynomialEasing out = in.transform(-1, 1, -1, 1);
+		if (easing == Easings.easeOutQuad || easing == Easings.easeOutCubic || easing == Easings.easeOutQuart
+				|| easing == Easings.easeOutQuint)
+			return out;
+
+		// in over the first half, out over the second
+		return PolynomialEasing.join(new double[] { 0.5 },
+				new PolynomialEasing[] { in.transform(2, 0, 0.5, 0), out.transform(2, -1, 0.5, 0.5) });
+	}
+
+	private static boolean isSmooth(Easing easing) {
+		if (easing instanceof Affine)
+			return isSmooth(((Affine) easing).easing);
+
+		if (easing instanceof Piecewise) {
+			Piecewise node = (Piecewise) easing;
+			for (int i = 0; i < node.parts.length; i++) {
+				if (!isSmooth(node.parts[i]))
+					return false;
+			}
+			for (int i = 0; i < node.breaks.length; i++) {
+				float t = node.breaks[i];
+				if (Math.abs(node.parts[i].get(t) - node.parts[i + 1].get(t)) > CONTINUITY_EPSILON)
+					return false; // a step would be smeared by the table
+			}
+			return true;
+		}
+
+		if (easing instanceof Sum)
+			return isSmooth(((Sum) easing).a) && isSmooth(((Sum) easing).b);
+
+		if (easing instanceof Clamp)
+			return isSmooth(((Clamp) easing).easing);
+
+		if (easing instanceof CubicBezierEasing) {
+			CubicBezierEasing bezier = (CubicBezierEasing) easing;
+			return bezier.getX1() > 0 && bezier.getX2() < 1; // else may be vertical at an end
+		}
+
+		return easing instanceof PolynomialEasing || easing instanceof TabledEasing || builtInPolynomial(easing) != null
+				|| easing == Easings.easeInSine || easing == Easings.easeOutSine || easing == Easings.easeInOutSine
+				|| easing == Easings.easeInExpo || easing == Easings.easeOutExpo || easing == Easings.easeInOutExpo;
+	}
+
+	private EasingComposer() {
+	}
+}
@@ -16,8 +16,33 @@
 
 package com.vmilea.gdx.flare.tween;
 
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
 public final class Easings {
 
+	// Switches every built-in curve except linear to a TabledEasing of the given resolution.
+	// Pays off for sine & expo curves; polynomials and circ are about as cheap analytically, and
+	// circ has infinite slope at one end so it tables poorly (see EasingTableReport).
+	// Call from the render thread, before or between frames.
+	public static void enableTables(int resolution, TabledEasing.Interpolation interpolation) {
+		for (int i = 0, n = curves.size; i < n; i++) {
+			Curve curve = curves.items[i];
+			curve.table = new TabledEasing(curve, resolution, interpolation);
+		}
+	}
+
+	public static void disableTables() {
+		for (int i = 0, n = curves.size; i < n; i++) {
+			curves.items[i].table = null;
+		}
+	}
+
+	public static boolean isTabled(Easing easing) {
+		return (easing instanceof Curve && ((Curve) easing).table != null);
+	}
+
 	// ease in     : accelerating from zero velocity
 	// ease out    : decelerating to zero velocity
 	// ease in/out : accelerating until halfway, then decelerating
@@ -32,9 +57,9 @@ public final class Easings {
 		public Easing reversed() { return linear; }
 	};
 	
-	public static final Easing easeInQuad = new Easing() {
+	public static final Easing easeInQuad = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			return t * t;
 		}
 		
@@ -42,9 +67,9 @@ public final class Easings {
 		public Easing reversed() { return easeOutQuad; }
 	};
 	
-	public static final Easing easeOutQuad = new Easing() {
+	public static final Easing easeOutQuad = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			return t * (2 - t);
 		}
 		
@@ -52,9 +77,9 @@ public final class Easings {
 		public Easing reversed() { return easeInQuad; }
 	};
 	
-	public static final Easing easeInOutQuad = new Easing() {
+	public static final Easing easeInOutQuad = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			if (t < 0.5f)
 				return 2 * t * t;
 			else
@@ -65,9 +90,9 @@ public final class Easings {
 		public Easing reversed() { return easeInOutQuad; }
 	};
 	
-	public static final Easing easeInCubic = new Easing() {
+	public static final Easing easeInCubic = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			return t * t * t;
 		}
 		
@@ -75,9 +100,9 @@ public final class Easings {
 		public Easing reversed() { return easeOutCubic; }
 	};
 	
-	public static final Easing easeOutCubic = new Easing() {
+	public static final Easing easeOutCubic = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			t--;
 			return 1 + t * t * t;
 		}
@@ -86,9 +111,9 @@ public final class Easings {
 		public Easing reversed() { return easeInCubic; }
 	};
 	
-	public static final Easing easeInOutCubic = new Easing() {
+	public static final Easing easeInOutCubic = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			if (t < 0.5f)
 				return 4 * t * t * t;
 			else {
@@ -101,9 +126,9 @@ public final class Easings {
 		public Easing reversed() { return easeInOutCubic; }
 	};
 	
-	public static final Easing easeInQuart = new Easing() {
+	public static final Easing easeInQuart = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			return t * t * t * t;
 		}
 		
@@ -111,9 +136,9 @@ public final class Easings {
 		public Easing reversed() { return easeOutQuart; }
 	};
 	
-	public static final Easing easeOutQuart = new Easing() {
+	public static final Easing easeOutQuart = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			t--;
 			return 1 - t * t * t * t;
 		}
@@ -122,9 +147,9 @@ public final class Easings {
 		public Easing reversed() { return easeInQuart; }
 	};
 	
-	public static final Easing easeInOutQuart = new Easing() {
+	public static final Easing easeInOutQuart = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			if (t < 0.5f)
 				return 8 * t * t * t * t;
 			else {
@@ -137,9 +162,9 @@ public final class Easings {
 		public Easing reversed() { return easeInOutQuart; }
 	};
 	
-	public static final Easing easeInQuint = new Easing() {
+	public static final Easing easeInQuint = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			return t * t * t * t * t;
 		}
 		
@@ -147,9 +172,9 @@ public final class Easings {
 		public Easing reversed() { return easeOutQuint; }
 	};
 	
-	public static final Easing easeOutQuint = new Easing() {
+	public static final Easing easeOutQuint = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			t--;
 			return 1 + t * t * t * t * t;
 		}
@@ -158,9 +183,9 @@ public final class Easings {
 		public Easing reversed() { return easeInQuint; }
 	};
 	
-	public static final Easing easeInOutQuint = new Easing() {
+	public static final Easing easeInOutQuint = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			if (t < 0.5f)
 				return 16 * t * t * t * t * t;
 			else {
@@ -173,9 +198,9 @@ public final class Easings {
 		public Easing reversed() { return easeInOutQuint; }
 	};
 	
-	public static final  Easing easeInSine = new Easing() {
+	public static final  Easing easeInSine = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			return 1 - (float) Math.cos(t * 0.5 * Math.PI);
 		}
 		
@@ -183,9 +208,9 @@ public final class Easings {
 		public Easing reversed() { return easeOutSine; }
 	};
 	
-	public static final Easing easeOutSine = new Easing() {
+	public static final Easing easeOutSine = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			return (float) Math.sin(t * 0.5 * Math.PI);
 		}
 		
@@ -193,9 +218,9 @@ public final class Easings {
 		public Easing reversed() { return easeInSine; }
 	};
 	
-	public static final Easing easeInOutSine = new Easing() {
+	public static final Easing easeInOutSine = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			return 0.5f * (1 - (float) Math.cos(t * Math.PI));
 		}
 		
@@ -203,9 +228,9 @@ public final class Easings {
 		public Easing reversed() { return easeInOutSine; }
 	};
 	
-	public static final Easing easeInExpo = new Easing() {
+	public static final Easing easeInExpo = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			return (float) Math.pow(2, 10 * (t - 1));
 		}
 		
@@ -213,9 +238,9 @@ public final class Easings {
 		public Easing reversed() { return easeOutExpo; }
 	};
 	
-	public static final Easing easeOutExpo = new Easing() {
+	public static final Easing easeOutExpo = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			return 1 - (float) Math.pow(2, -10 * t);
 		}
 		
@@ -223,9 +248,9 @@ public final class Easings {
 		public Easing reversed() { return easeInExpo; }
 	};
 	
-	public static final Easing easeInOutExpo = new Easing() {
+	public static final Easing easeInOutExpo = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			if (t < 0.5f)
 				return 0.5f * (float) Math.pow(2, 20 * t - 10);
 			else {
@@ -237,9 +262,9 @@ public final class Easings {
 		public Easing reversed() { return easeInOutExpo; }
 	};
 	
-	public static final Easing easeInCirc = new Easing() {
+	public static final Easing easeInCirc = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			return 1 - (float) Math.sqrt(1 - t * t);
 		}
 		
@@ -247,9 +272,9 @@ public final class Easings {
 		public Easing reversed() { return easeOutCirc; }
 	};
 	
-	public static final Easing easeOutCirc = new Easing() {
+	public static final Easing easeOutCirc = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			return (float) Math.sqrt(t * (2 - t));
 		}
 		
@@ -257,9 +282,9 @@ public final class Easings {
 		public Easing reversed() { return easeInCirc; }
 	};
 	
-	public static final Easing easeInOutCirc = new Easing() {
+	public static final Easing easeInOutCirc = new Curve() {
 		@Override
-		public float get(float t) {
+		protected float compute(float t) {
 			if (t < 0.5f)
 				return 0.5f * (1 - (float) Math.sqrt(1 - 4 * t * t));
 			else {
@@ -270,4 +295,111 @@ public final class Easings {
 		@Override
 		public Easing reversed() { return easeInOutCirc; }
 	};
+
+	//
+	// private members
+	//
+
+	private static abstract class Curve extends Easing {
+
+		TabledEasing table;
+
+		@Override
+		public final float get(float t) {
+			TabledEasing table = this.table;
+			return (table != null ? table.get(t) : compute(t));
+		}
+
+		protected abstract float compute(float t);
+	}
+
+	// value of the easing itself, bypassing any table the built-in curves switched to
+	static float getAnalytic(Easing easing, float t) {
+		return (easing instanceof Curve ? ((Curve) easing).compute(t) : easing.get(t));
+	}
+
+	private static final class BuiltIn {
+		final String name;
+		final Easing easing;
+
+		BuiltIn(String name, Easing easing) {
+			this.name = name;
+			this.easing = easing;
+		}
+	}
+
+	// Every built-in easing by field name. Clips store easings as indices into this list, so it's
+	// append-only.
+	private static final BuiltIn[] builtIns = {
+			new BuiltIn("linear", linear),
+			new BuiltIn("easeInQuad", easeInQuad),
+			new BuiltIn("easeOutQuad", easeOutQuad),
+			new BuiltIn("easeInOutQuad", easeInOutQuad),
+			new BuiltIn("easeInCubic", easeInCubic),
+			new BuiltIn("easeOutCubic", easeOutCubic),
+			new BuiltIn("easeInOutCubic", easeInOutCubic),
+			new BuiltIn("easeInQuart", easeInQuart),
+			new BuiltIn("easeOutQuart", easeOutQuart),
+			new BuiltIn("easeInOutQuart", easeInOutQuart),
+			new BuiltIn("easeInQuint", easeInQuint),
+			new BuiltIn("easeOutQuint", easeOutQuint),
+			new BuiltIn("easeInOutQuint", easeInOutQuint),
+			new BuiltIn("easeInSine", easeInSine),
+			new BuiltIn("easeOutSine", easeOutSine),
+			new BuiltIn("easeInOutSine", easeInOutSine),
+			new BuiltIn("easeInExpo", easeInExpo),
+			new BuiltIn("easeOutExpo", easeOutExpo),
+			new BuiltIn("easeInOutExpo", easeInOutExpo),
+			new BuiltIn("easeInCirc", easeInCirc),
+			new BuiltIn("easeOutCirc", easeOutCirc),
+			new BuiltIn("easeInOutCirc", easeInOutCirc) };
+
+	private static final Array<Curve> curves = new Array<Curve>(Curve.class);
+	private static final ObjectMap<String, Easing> byName = new ObjectMap<String, Easing>();
+	private static final ObjectIntMap<Easing> indices = new ObjectIntMap<Easing>();
+
+	static {
+		for (int i = 0; i < builtIns.length; i++) {
+			BuiltIn builtIn = builtIns[i];
+			if (builtIn.easing instanceof Curve)
+				curves.add((Curve) builtIn.easing);
+			byName.put(builtIn.name, builtIn.easing);
+			indices.put(builtIn.easing, i);
+		}
+	}
+
+	// built-in easing by field name, or null
+	public static Easing forName(String name) {
+		return byName.get(name);
+	}
+
+	public static int getBuiltInCount() {
+		return builtIns.length;
+	}
+
+	public static Easing getBuiltIn(int index) {
+		return builtIns[index].easing;
+	}
+
+	public static String getBuiltInName(int index) {
+		return builtIns[index].name;
+	}
+
+	// index of a built-in easing, or -1
+	public static int indexOfBuiltIn(Easing easing) {
+		return indices.get(easing, -1);
+	}
+
+	// (1 - weight) * a + weight * b
+	public static Easing blend(Easing a, Easing b, float weight) {
+		return EasingComposer.blend(a, b, weight);
+	}
+
+	// pieces[i] runs from (times[i], values[i]) to (times[i + 1], values[i + 1]); times go from 0 to 1
+	public static Easing piecewise(float[] times, float[] values, Easing... pieces) {
+		return EasingComposer.piecewise(times, values, pieces);
+	}
+
+	private Easings() {
+	}
 }
@@ -17,6 +17,7 @@
 package com.vmilea.gdx.flare.tween;
 
 import com.vmilea.gdx.flare.ActionPool;
+import com.vmilea.gdx.flare.ActorLocal;
 import com.vmilea.gdx.flare.Actions.IdempotentDelegate;
 import com.vmilea.gdx.pool.AltPool;
 
@@ -64,6 +65,18 @@ public final class IdempotentAction extends AbstractTweenAction {
 		return reversed;
 	}
 
+	@Override
+	public IdempotentAction copy() {
+		IdempotentAction copy = obtain(delegate, data);
+		copy.skipWhilePinning = skipWhilePinning;
+		return copySetup(copy);
+	}
+
+	@Override
+	public boolean isActorLocal() {
+		return super.isActorLocal() && delegate instanceof ActorLocal;
+	}
+
 	@Override
 	protected void doPin() {
 	}
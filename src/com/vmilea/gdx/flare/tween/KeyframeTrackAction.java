@@ -0,0 +1,376 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.tween;
+
+import java.util.Arrays;
+
+import com.vmilea.gdx.flare.ActionPool;
+import com.vmilea.gdx.flare.actor.ComplexActorProperty;
+import com.vmilea.gdx.flare.actor.FloatActorProperty;
+import com.vmilea.gdx.flare.actor.FloatPairActorProperty;
+import com.vmilea.gdx.pool.AltPool;
+import com.vmilea.util.ArgCheck;
+import com.vmilea.util.StateCheck;
+
+// Interpolates a float, pair or complex property through keyframes, as one action per channel.
+// Each key has an easing for the segment leading into it. Before the first key the property
+// tweens from the value it had when pinned; after the last key it holds.
+//
+// Keys are kept in primitive arrays, values packed 'count' floats per key. A cursor finds the
+// current segment in O(1) during playback; larger jumps fall back to binary search. Tracks may
+// also play shared, read-only Keyframes instead of their own keys.
+//
+public final class KeyframeTrackAction extends AbstractTweenAction {
+
+	private FloatActorProperty floatProperty;
+	private FloatPairActorProperty pairProperty;
+	private ComplexActorProperty complexProperty;
+	private int count; // components per key
+
+	private float[] times = new float[4]; // ascending
+	private float[] values = new float[4];
+	private Easing[] easings = new Easing[4]; // for the segment ending at each key
+	private int keyCount;
+	private Keyframes keyframes; // if the arrays above are shared
+
+	private float[] values0 = new float[0];
+	private float[] output = new float[0]; // complex properties only
+	private int cursor; // keys [0, cursor) are at or before the last applied time
+
+	private static final float[] EMPTY_FLOATS = new float[0];
+	private static final Easing[] EMPTY_EASINGS = new Easing[0];
+
+	public static final AltPool<KeyframeTrackAction> pool = ActionPool.make(KeyframeTrackAction.class);
+
+	KeyframeTrackAction() { } // internal
+
+	public static KeyframeTrackAction obtain(FloatActorProperty property, float duration) {
+		KeyframeTrackAction obj = obtain(1, duration);
+		obj.floatProperty = property;
+		return obj;
+	}
+
+	public static KeyframeTrackAction obtain(FloatPairActorProperty property, float duration) {
+		KeyframeTrackAction obj = obtain(2, duration);
+		obj.pairProperty = property;
+		return obj;
+	}
+
+	public static KeyframeTrackAction obtain(ComplexActorProperty property, float duration) {
+		KeyframeTrackAction obj = obtain(property.getCount(), duration);
+		obj.complexProperty = property;
+		if (obj.output.length < obj.count)
+			obj.output = new float[obj.count];
+		return obj;
+	}
+
+	private static KeyframeTrackAction obtain(int count, float duration) {
+		ArgCheck.check(duration >= 0, "Duration may not be negative");
+
+		KeyframeTrackAction obj = pool.obtain();
+		obj.count = count;
+		obj.duration = duration;
+		if (obj.values0.length < count)
+			obj.values0 = new float[count];
+		return obj;
+	}
+
+	public KeyframeTrackAction key(float time, float value) {
+		return key(time, value, Easings.linear);
+	}
+
+	public KeyframeTrackAction key(float time, float value, Easing easing) {
+		ArgCheck.check(count == 1, "Key has wrong number of values");
+
+		int offset = addKey(time, easing);
+		values[offset] = value;
+		return this;
+	}
+
+	public KeyframeTrackAction key(float time, float a, float b) {
+		return key(time, a, b, Easings.linear);
+	}
+
+	public KeyframeTrackAction key(float time, float a, float b, Easing easing) {
+		ArgCheck.check(count == 2, "Key has wrong number of values");
+
+		int offset = addKey(time, easing);
+		values[offset] = a;
+		values[offset + 1] = b;
+		return this;
+	}
+
+	public KeyframeTrackAction key(float time, float[] value) {
+		return key(time, value, Easings.linear);
+	}
+
+	public KeyframeTrackAction key(float time, float[] value, Easing easing) {
+		ArgCheck.check(value.length >= count, "Key has wrong number of values");
+
+		int offset = addKey(time, easing);
+		System.arraycopy(value, 0, values, offset, count);
+		return this;
+	}
+
+	// bulk import of linear keys; 'values' holds 'count' floats per key
+	public KeyframeTrackAction keys(float[] times, float[] values) {
+		ArgCheck.check(values.length == times.length * count, "Key has wrong number of values");
+
+		ensureCapacity(keyCount + times.length);
+		for (int k = 0; k < times.length; k++) {
+			int offset = addKey(times[k], Easings.linear);
+			System.arraycopy(values, k * count, this.values, offset, count);
+		}
+		return this;
+	}
+
+	// plays shared keys, which must fit within duration; the track may not have keys of its own
+	public KeyframeTrackAction keys(Keyframes keyframes) {
+		ArgCheck.check(isDone && !isPinned, "May not add keys while running");
+		ArgCheck.check(keyCount == 0, "Track already has keys");
+		ArgCheck.check(keyframes.count == count, "Key has wrong number of values");
+		ArgCheck.check(keyframes.getLastTime() <= duration, "Key time must be within duration");
+
+		this.keyframes = keyframes;
+		times = keyframes.times;
+		values = keyframes.values;
+		easings = keyframes.easings;
+		keyCount = keyframes.keyCount;
+		return this;
+	}
+
+	public int getKeyCount() {
+		return keyCount;
+	}
+
+	public int getComponentCount() {
+		return count;
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+
+		floatProperty = null;
+		pairProperty = null;
+		complexProperty = null;
+		count = 0;
+		if (keyframes != null) {
+			// drop the shared arrays, own ones are allocated on demand
+			keyframes = null;
+			times = EMPTY_FLOATS;
+			values = EMPTY_FLOATS;
+			easings = EMPTY_EASINGS;
+		} else {
+			Arrays.fill(easings, 0, keyCount, null);
+		}
+		keyCount = 0;
+		cursor = 0;
+	}
+
+	@Override
+	public void restore() {
+		super.restore();
+
+		cursor = 0;
+	}
+
+	@Override
+	public boolean isReversible() {
+		return isPinned;
+	}
+
+	@Override
+	public KeyframeTrackAction reversed() {
+		if (!isReversible())
+			StateCheck.fail("%s can't be reversed unless pinned", getClass().getSimpleName());
+
+		KeyframeTrackAction reversed = obtainLike();
+		reversed.ensureCapacity(keyCount + 1);
+
+		// segment k-1 -> k plays backward, eased by the mirror of key k's easing
+		for (int k = keyCount - 1; k >= 0; k--) {
+			Easing easing = (k == keyCount - 1 ? Easings.linear : easings[k + 1].reversed());
+			int offset = reversed.addKey(duration - times[k], easing);
+			System.arraycopy(values, k * count, reversed.values, offset, count);
+		}
+		if (keyCount == 0 || times[0] > 0) {
+			Easing easing = (keyCount == 0 ? Easings.linear : easings[0].reversed());
+			int offset = reversed.addKey(duration, easing);
+			System.arraycopy(values0, 0, reversed.values, offset, count);
+		}
+
+		reversed.target = target;
+		reversed.ease(easing.reversed());
+		return reversed;
+	}
+
+	@Override
+	public KeyframeTrackAction copy() {
+		KeyframeTrackAction copy = obtainLike();
+
+		if (keyframes != null) {
+			copy.keys(keyframes);
+		} else {
+			copy.ensureCapacity(keyCount);
+			for (int k = 0; k < keyCount; k++) {
+				copy.addKey(times[k], easings[k]);
+			}
+			System.arraycopy(values, 0, copy.values, 0, keyCount * count);
+		}
+
+		return copySetup(copy);
+	}
+
+	@Override
+	protected void doPin() {
+		if (floatProperty != null) {
+			values0[0] = floatProperty.get(target);
+		} else if (pairProperty != null) {
+			values0[0] = pairProperty.getA(target);
+			values0[1] = pairProperty.getB(target);
+		} else {
+			complexProperty.get(target, values0);
+		}
+	}
+
+	@Override
+	protected void applyRatio(float ratio) {
+		float time = ratio * duration;
+		int k = seekCursor(time);
+
+		// interpolate from the key before (or the pinned value) to the key at k
+		float[] values0, values1;
+		int offset0, offset1;
+		float f;
+
+		if (k == 0) {
+			values0 = this.values0;
+			offset0 = 0;
+		} else {
+			values0 = values;
+			offset0 = (k - 1) * count;
+		}
+
+		if (k == keyCount) { // hold
+			values1 = values0;
+			offset1 = offset0;
+			f = 0;
+		} else {
+			values1 = values;
+			offset1 = k * count;
+			float time0 = (k == 0 ? 0 : times[k - 1]);
+			float span = times[k] - time0;
+			f = (span > 0 ? easings[k].get((time - time0) / span) : 1);
+		}
+
+		if (floatProperty != null) {
+			float v0 = values0[offset0];
+			floatProperty.set(target, v0 + f * (values1[offset1] - v0));
+		} else if (pairProperty != null) {
+			float a0 = values0[offset0];
+			float b0 = values0[offset0 + 1];
+			pairProperty.set(target,
+					a0 + f * (values1[offset1] - a0),
+					b0 + f * (values1[offset1 + 1] - b0));
+		} else {
+			float[] output = this.output;
+			for (int i = 0; i < count; i++) {
+				float v0 = values0[offset0 + i];
+				output[i] = v0 + f * (values1[offset1 + i] - v0);
+			}
+			complexProperty.set(target, output);
+		}
+	}
+
+	//
+	// private members
+	//
+
+	private KeyframeTrackAction obtainLike() {
+		if (floatProperty != null)
+			return obtain(floatProperty, duration);
+		else if (pairProperty != null)
+			return obtain(pairProperty, duration);
+		else
+			return obtain(complexProperty, duration);
+	}
+
+	// returns the number of keys at or before 'time'
+	private int seekCursor(float time) {
+		float[] times = this.times;
+		int keyCount = this.keyCount;
+		int k = cursor;
+
+		if (k < keyCount && times[k] <= time) {
+			k++;
+			if (k < keyCount && times[k] <= time)
+				k = search(time);
+		} else if (k > 0 && times[k - 1] > time) {
+			k--;
+			if (k > 0 && times[k - 1] > time)
+				k = search(time);
+		}
+		return (cursor = k);
+	}
+
+	// index of the first key after 'time'
+	private int search(float time) {
+		int low = 0, high = keyCount;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (times[mid] <= time)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	private int addKey(float time, Easing easing) {
+		ArgCheck.check(isDone && !isPinned, "May not add keys while running");
+		ArgCheck.check(keyframes == null, "Shared keys are read-only");
+		ArgCheck.check(time >= 0 && time <= duration, "Key time must be within duration");
+		ArgCheck.check(keyCount == 0 || time >= times[keyCount - 1], "Keys must be added in order");
+		ArgCheck.check(easing != null, "Easing may not be null");
+
+		ensureCapacity(keyCount + 1);
+
+		times[keyCount] = time;
+		easings[keyCount] = easing;
+		return count * keyCount++;
+	}
+
+	private void ensureCapacity(int keyCapacity) {
+		if (keyCapacity <= times.length && keyCapacity * count <= values.length)
+			return;
+
+		int capacity = Math.max(keyCapacity, times.length * 2);
+
+		float[] newTimes = new float[capacity];
+		System.arraycopy(times, 0, newTimes, 0, keyCount);
+		times = newTimes;
+
+		Easing[] newEasings = new Easing[capacity];
+		System.arraycopy(easings, 0, newEasings, 0, keyCount);
+		easings = newEasings;
+
+		float[] newValues = new float[capacity * count];
+		System.arraycopy(values, 0, newValues, 0, keyCount * count);
+		values = newValues;
+	}
+}
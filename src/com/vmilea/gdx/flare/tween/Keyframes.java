@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.tween;
+
+import com.vmilea.util.ArgCheck;
+
+// Read-only keys for KeyframeTrackAction, shared by any number of running tracks (see
+// KeyframeTrackAction.keys(Keyframes)). Takes ownership of the arrays, don't modify them after.
+//
+public final class Keyframes {
+
+	final int count; // components per key
+	final int keyCount;
+	final float[] times;
+	final float[] values;
+	final Easing[] easings;
+
+	public Keyframes(int count, float[] times, float[] values, Easing[] easings) {
+		ArgCheck.check(count > 0, "Component count must be greater than 0");
+		ArgCheck.check(values.length == times.length * count, "Key has wrong number of values");
+		ArgCheck.check(easings.length == times.length, "Need one easing per key");
+
+		for (int k = 0; k < times.length; k++) {
+			ArgCheck.check(k == 0 || times[k] >= times[k - 1], "Keys must be in order");
+			ArgCheck.check(easings[k] != null, "Easing may not be null");
+		}
+
+		this.count = count;
+		this.keyCount = times.length;
+		this.times = times;
+		this.values = values;
+		this.easings = easings;
+	}
+
+	public int getComponentCount() {
+		return count;
+	}
+
+	public int getKeyCount() {
+		return keyCount;
+	}
+
+	public float getLastTime() {
+		return (keyCount > 0 ? times[keyCount - 1] : 0);
+	}
+}
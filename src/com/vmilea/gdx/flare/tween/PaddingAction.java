@@ -53,6 +53,34 @@ public final class PaddingAction extends AbstractTweenAction {
 		return obtain(action, fixedRatio, duration);
 	}
 
+	// still pads the original action, until relinked by the enclosing combiner
+	@Override
+	public PaddingAction copy() {
+		return copySetup(obtain(action, fixedRatio, duration));
+	}
+
+	@Override
+	public boolean isActorLocal() {
+		return super.isActorLocal() && action.isActorLocal();
+	}
+
+	// points copied paddings at the copies of the actions they pad, which must be siblings
+	static void relink(AbstractTweenCombinerAction original, AbstractTweenCombinerAction copy) {
+		AbstractTweenAction[] copies = copy.actions.items;
+
+		for (int i = 0, n = copy.actions.size; i < n; i++) {
+			if (copies[i] instanceof PaddingAction) {
+				PaddingAction padding = (PaddingAction) copies[i];
+
+				int index = original.actions.indexOf(padding.action, true);
+				if (index == -1)
+					throw new UnsupportedOperationException("PaddingAction may only be copied along with the action it pads");
+
+				padding.action = copies[index];
+			}
+		}
+	}
+
 	@Override
 	protected void doPin() {
 	}
@@ -61,4 +89,13 @@ public final class PaddingAction extends AbstractTweenAction {
 	protected void applyRatio(float ratio) {
 		action.applyRatio(fixedRatio);
 	}
+
+	// has no state of its own, and the padded action may not be pinned yet
+	@Override
+	protected void pinPush() {
+	}
+
+	@Override
+	protected void pinPop() {
+	}
 }
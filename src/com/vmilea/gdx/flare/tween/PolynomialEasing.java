@@ -0,0 +1,347 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.tween;
+
+import java.util.Arrays;
+
+import com.vmilea.util.Assert;
+
+// Piecewise polynomial easing, the closed form EasingComposer folds compositions of polynomial
+// curves into. Pieces are split at ascending 'breaks' and hold powers of the ratio itself, so
+// get() is a count of breaks and one Horner pass. That's about three times a built-in curve, which
+// has its coefficients compiled in, and about half the cost of evaluating the composition. The end
+// pieces extrapolate outside [0, 1]. Pieces may carry clamp bounds, kept only where a clamp
+// actually binds within [0, 1].
+//
+final class PolynomialEasing extends Easing {
+
+	private static final double MERGE_EPSILON = 1e-12;
+
+	private final double[] breaks; // between pieces, ascending
+	private final int stride; // highest degree + 1
+	private final double[] coefficients; // per piece, lowest power first, zero-padded to stride
+	private final double[] mins, maxs; // per piece clamp bounds, or null if nothing is clamped
+	private final boolean hasMin, hasMax; // if any piece has a finite bound of that kind
+
+	private PolynomialEasing(double[] breaks, int stride, double[] coefficients, double[] mins, double[] maxs) {
+		this.breaks = breaks;
+		this.stride = stride;
+		this.coefficients = coefficients;
+		this.mins = mins;
+		this.maxs = maxs;
+
+		boolean hasMin = false, hasMax = false;
+		for (int i = 0; mins != null && i < mins.length; i++) {
+			hasMin |= (mins[i] != Double.NEGATIVE_INFINITY);
+			hasMax |= (maxs[i] != Double.POSITIVE_INFINITY);
+		}
+		this.hasMin = hasMin;
+		this.hasMax = hasMax;
+	}
+
+	// t^n
+	static PolynomialEasing power(int n) {
+		double[] coefficients = new double[n + 1];
+		coefficients[n] = 1;
+		return new PolynomialEasing(new double[0], n + 1, coefficients, null, null);
+	}
+
+	@Override
+	public float get(float ratio) {
+		double t = ratio;
+
+		// counted rather than scanned, so the piece doesn't cost a mispredicted branch
+		double[] breaks = this.breaks;
+		int i = 0;
+		for (int j = 0; j < breaks.length; j++) {
+			i += (t >= breaks[j] ? 1 : 0);
+		}
+
+		double[] coefficients = this.coefficients;
+		int start = i * stride;
+		int k = start + stride - 1;
+		double y = coefficients[k];
+		while (k > start) {
+			y = y * t + coefficients[--k];
+		}
+
+		if (hasMax)
+			y = (y > maxs[i] ? maxs[i] : y);
+		if (hasMin)
+			y = (y < mins[i] ? mins[i] : y);
+		return (float) y;
+	}
+
+	@Override
+	public Easing reversed() {
+		return transform(-1, 1, -1, 1);
+	}
+
+	int getPieceCount() {
+		return breaks.length + 1;
+	}
+
+	boolean isClamped() {
+		return mins != null;
+	}
+
+	// outScale * get(inScale * t + inOffset) + outOffset
+	PolynomialEasing transform(double inScale, double inOffset, double outScale, double outOffset) {
+		Assert.check(inScale != 0);
+
+		int count = getPieceCount();
+		Builder builder = new Builder(count);
+
+		for (int n = 0; n < count; n++) {
+			int i = (inScale > 0 ? n : count - 1 - n); // a negative scale flips the pieces
+			double lower = (inScale > 0 ? lower(i) : upper(i));
+
+			double[] piece = compose(piece(i), inScale, inOffset);
+			for (int k = 0; k < piece.length; k++) {
+				piece[k] *= outScale;
+			}
+			piece[0] += outOffset;
+
+			double min = Double.NEGATIVE_INFINITY;
+			double max = Double.POSITIVE_INFINITY;
+			if (mins != null && outScale != 0) {
+				min = outScale * (outScale > 0 ? mins[i] : maxs[i]) + outOffset;
+				max = outScale * (outScale > 0 ? maxs[i] : mins[i]) + outOffset;
+			}
+			builder.add((lower - inOffset) / inScale, piece, min, max);
+		}
+		return builder.build();
+	}
+
+	// parts[i] over (breaks[i - 1], breaks[i])
+	static PolynomialEasing join(double[] breaks, PolynomialEasing[] parts) {
+		Assert.check(parts.length == breaks.length + 1);
+
+		Builder builder = new Builder(parts.length);
+
+		for (int n = 0; n < parts.length; n++) {
+			double lower = (n == 0 ? Double.NEGATIVE_INFINITY : breaks[n - 1]);
+			double upper = (n == breaks.length ? Double.POSITIVE_INFINITY : breaks[n]);
+			PolynomialEasing part = parts[n];
+
+			for (int i = 0; i < part.getPieceCount(); i++) {
+				if (part.upper(i) <= lower || part.lower(i) >= upper)
+					continue;
+
+				builder.add(Math.max(lower, part.lower(i)), part.piece(i), part.min(i), part.max(i));
+			}
+		}
+		return builder.build();
+	}
+
+	// wa * a + wb * b, or null if either is clamped
+	static PolynomialEasing add(PolynomialEasing a, double wa, PolynomialEasing b, double wb) {
+		if (a.isClamped() || b.isClamped())
+			return null;
+
+		Builder builder = new Builder(a.getPieceCount() + b.getPieceCount());
+		int ia = 0;
+		int ib = 0;
+		double lower = Double.NEGATIVE_INFINITY;
+
+		while (true) {
+			double[] pa = a.piece(ia);
+			double[] pb = b.piece(ib);
+			double[] piece = new double[Math.max(pa.length, pb.length)];
+			for (int k = 0; k < pa.length; k++) {
+				piece[k] += wa * pa[k];
+			}
+			for (int k = 0; k < pb.length; k++) {
+				piece[k] += wb * pb[k];
+			}
+			builder.add(lower, piece, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+
+			double upper = Math.min(a.upper(ia), b.upper(ib));
+			if (upper == Double.POSITIVE_INFINITY)
+				break;
+
+			if (a.upper(ia) == upper)
+				ia++;
+			if (b.upper(ib) == upper)
+				ib++;
+			lower = upper;
+		}
+		return builder.build();
+	}
+
+	PolynomialEasing clamped(double min, double max) {
+		int count = getPieceCount();
+		Builder builder = new Builder(count);
+
+		for (int i = 0; i < count; i++) {
+			double pieceMin = Math.max(min(i), min);
+			double pieceMax = Math.min(max(i), max);
+
+			// drop bounds the piece can't reach within [0, 1]
+			double lower = Math.max(lower(i), 0);
+			double upper = Math.min(upper(i), 1);
+			if (lower <= upper) {
+				double[] range = bound(piece(i), lower, upper);
+				if (range[0] >= pieceMin)
+					pieceMin = Double.NEGATIVE_INFINITY;
+				if (range[1] <= pieceMax)
+					pieceMax = Double.POSITIVE_INFINITY;
+			}
+			builder.add(lower(i), piece(i), pieceMin, pieceMax);
+		}
+		return builder.build();
+	}
+
+	//
+	// private members
+	//
+
+	private double lower(int i) {
+		return (i == 0 ? Double.NEGATIVE_INFINITY : breaks[i - 1]);
+	}
+
+	private double upper(int i) {
+		return (i == breaks.length ? Double.POSITIVE_INFINITY : breaks[i]);
+	}
+
+	private double min(int i) {
+		return (mins != null ? mins[i] : Double.NEGATIVE_INFINITY);
+	}
+
+	private double max(int i) {
+		return (maxs != null ? maxs[i] : Double.POSITIVE_INFINITY);
+	}
+
+	private double[] piece(int i) {
+		return Arrays.copyOfRange(coefficients, i * stride, (i + 1) * stride);
+	}
+
+	// p(scale * t + offset), by Horner's scheme over polynomials
+	private static double[] compose(double[] p, double scale, double offset) {
+		double[] result = new double[p.length];
+		int degree = 0;
+		result[0] = p[p.length - 1];
+
+		for (int k = p.length - 2; k >= 0; k--) {
+			// result = result * (scale * t + offset) + p[k]
+			degree++;
+			for (int j = degree; j > 0; j--) {
+				result[j] = result[j] * offset + result[j - 1] * scale;
+			}
+			result[0] = result[0] * offset + p[k];
+		}
+		return result;
+	}
+
+	// range of p over [lower, upper] is within the min & max of its Bernstein coefficients
+	private static double[] bound(double[] p, double lower, double upper) {
+		double[] local = compose(p, upper - lower, lower); // over [0, 1]
+		int degree = local.length - 1;
+
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		for (int k = 0; k <= degree; k++) {
+			double b = 0;
+			for (int j = 0; j <= k; j++) {
+				b += binomial(k, j) / binomial(degree, j) * local[j];
+			}
+			min = Math.min(min, b);
+			max = Math.max(max, b);
+		}
+		return new double[] { min, max };
+	}
+
+	private static double binomial(int n, int k) {
+		double result = 1;
+		for (int i = 1; i <= k; i++) {
+			result = result * (n - k + i) / i;
+		}
+		return result;
+	}
+
+	private static final class Builder {
+		double[] lowers;
+		double[][] pieces;
+		double[] mins, maxs;
+		int count;
+
+		Builder(int capacity) {
+			lowers = new double[capacity];
+			pieces = new double[capacity][];
+			mins = new double[capacity];
+			maxs = new double[capacity];
+		}
+
+		// appends a piece starting at 'lower', merging it into the previous one if they match
+		void add(double lower, double[] piece, double min, double max) {
+			if (count > 0 && matches(count - 1, piece, min, max))
+				return;
+
+			if (count == lowers.length) {
+				int capacity = count * 2;
+				lowers = Arrays.copyOf(lowers, capacity);
+				pieces = Arrays.copyOf(pieces, capacity);
+				mins = Arrays.copyOf(mins, capacity);
+				maxs = Arrays.copyOf(maxs, capacity);
+			}
+			lowers[count] = lower;
+			pieces[count] = piece;
+			mins[count] = min;
+			maxs[count] = max;
+			count++;
+		}
+
+		PolynomialEasing build() {
+			int stride = 1;
+			boolean isClamped = false;
+			for (int i = 0; i < count; i++) {
+				stride = Math.max(stride, degree(pieces[i]) + 1);
+				isClamped |= (mins[i] != Double.NEGATIVE_INFINITY || maxs[i] != Double.POSITIVE_INFINITY);
+			}
+
+			double[] coefficients = new double[count * stride];
+			for (int i = 0; i < count; i++) {
+				System.arraycopy(pieces[i], 0, coefficients, i * stride, Math.min(stride, pieces[i].length));
+			}
+
+			return new PolynomialEasing(Arrays.copyOfRange(lowers, 1, count), stride, coefficients,
+					(isClamped ? Arrays.copyOf(mins, count) : null), (isClamped ? Arrays.copyOf(maxs, count) : null));
+		}
+
+		private boolean matches(int i, double[] piece, double min, double max) {
+			if (mins[i] != min || maxs[i] != max)
+				return false;
+
+			double[] other = pieces[i];
+			for (int k = 0; k < Math.max(piece.length, other.length); k++) {
+				double a = (k < piece.length ? piece[k] : 0);
+				double b = (k < other.length ? other[k] : 0);
+				if (Math.abs(a - b) > MERGE_EPSILON * Math.max(1, Math.abs(a)))
+					return false;
+			}
+			return true;
+		}
+
+		private static int degree(double[] piece) {
+			int degree = piece.length - 1;
+			while (degree > 0 && piece[degree] == 0) {
+				degree--;
+			}
+			return degree;
+		}
+	}
+}
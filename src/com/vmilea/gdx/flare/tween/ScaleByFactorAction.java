@@ -70,6 +70,13 @@ public final class ScaleByFactorAction extends AbstractTweenAction {
 		return reversed;
 	}
 
+	@Override
+	public ScaleByFactorAction copy() {
+		ScaleByFactorAction copy = obtain(xFactor, yFactor, duration);
+
+		return copySetup(copy);
+	}
+
 	@Override
 	protected void doPin() {
 		scaleX0 = target.getScaleX();
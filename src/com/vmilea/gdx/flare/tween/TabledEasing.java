@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.tween;
+
+import com.vmilea.util.ArgCheck;
+
+// Easing evaluated from a table of precomputed samples. Trades a little precision for skipping
+// trigonometric & exponential math on every frame. The reversed easing mirrors the same table.
+//
+public final class TabledEasing extends Easing {
+
+	public enum Interpolation {
+		LINEAR, CUBIC
+	}
+
+	public static final int DEFAULT_RESOLUTION = 256;
+
+	private final Easing source;
+	private final int resolution;
+	private final boolean isCubic;
+	private final float[] samples; // padded with one extrapolated sample at each end
+	private final TabledEasing reversed;
+
+	public TabledEasing(Easing source) {
+		this(source, DEFAULT_RESOLUTION, Interpolation.LINEAR);
+	}
+
+	public TabledEasing(Easing source, int resolution, Interpolation interpolation) {
+		ArgCheck.check(source != null, "Source easing may not be null");
+		ArgCheck.check(resolution > 0, "Resolution must be greater than 0");
+
+		this.source = source;
+		this.resolution = resolution;
+		this.isCubic = (interpolation == Interpolation.CUBIC);
+
+		samples = new float[resolution + 3];
+		for (int i = 0; i <= resolution; i++) {
+			samples[i + 1] = Easings.getAnalytic(source, (float) i / resolution);
+		}
+		// quadratic extrapolation, easings aren't necessarily defined outside [0, 1]
+		if (resolution >= 2) {
+			samples[0] = 3 * (samples[1] - samples[2]) + samples[3];
+			samples[resolution + 2] = 3 * (samples[resolution + 1] - samples[resolution]) + samples[resolution - 1];
+		} else {
+			samples[0] = 2 * samples[1] - samples[2];
+			samples[resolution + 2] = 2 * samples[resolution + 1] - samples[resolution];
+		}
+
+		reversed = new TabledEasing(this);
+	}
+
+	private TabledEasing(TabledEasing forward) { // mirrored view
+		source = null;
+		resolution = forward.resolution;
+		isCubic = forward.isCubic;
+		samples = forward.samples;
+		reversed = forward;
+	}
+
+	public Easing getSource() {
+		return (source != null ? source : reversed.source.reversed());
+	}
+
+	public int getResolution() {
+		return resolution;
+	}
+
+	public Interpolation getInterpolation() {
+		return (isCubic ? Interpolation.CUBIC : Interpolation.LINEAR);
+	}
+
+	@Override
+	public float get(float t) {
+		if (source == null)
+			return 1 - lookup(1 - t);
+		else
+			return lookup(t);
+	}
+
+	@Override
+	public Easing reversed() {
+		return reversed;
+	}
+
+	// largest deviation from the analytic source easing, checked at 'checks' evenly spaced points
+	public float getMaxError(int checks) {
+		Easing source = getSource();
+		float maxError = 0;
+
+		for (int i = 0; i <= checks; i++) {
+			float t = (float) i / checks;
+			maxError = Math.max(maxError, Math.abs(get(t) - Easings.getAnalytic(source, t)));
+		}
+		return maxError;
+	}
+
+	private float lookup(float t) {
+		if (t <= 0)
+			return samples[1];
+		if (t >= 1)
+			return samples[resolution + 1];
+
+		float x = t * resolution;
+		int i = (int) x;
+		float f = x - i;
+
+		float[] samples = this.samples;
+		float p1 = samples[i + 1];
+		float p2 = samples[i + 2];
+
+		if (!isCubic)
+			return p1 + f * (p2 - p1);
+
+		// Catmull-Rom
+		float p0 = samples[i];
+		float p3 = samples[i + 3];
+		return p1 + 0.5f * f * (p2 - p0 + f * (2 * p0 - 5 * p1 + 4 * p2 - p3 + f * (3 * (p1 - p2) + p3 - p0)));
+	}
+}
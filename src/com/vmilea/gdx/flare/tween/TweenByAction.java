@@ -16,32 +16,36 @@
 
 package com.vmilea.gdx.flare.tween;
 
-import com.badlogic.gdx.utils.FloatArray;
 import com.vmilea.gdx.flare.ActionPool;
-import com.vmilea.gdx.flare.Actions;
 import com.vmilea.gdx.flare.actor.ComplexActorProperty;
 import com.vmilea.gdx.pool.AltPool;
-import com.vmilea.util.Assert;
 
 public final class TweenByAction extends AbstractTweenAction {
 
 	private ComplexActorProperty property;
-	private final FloatArray delta = new FloatArray(4);
-	private final FloatArray value0 = new FloatArray(4);
+	private int count; // property.getCount(), cached
+
+	// [value | value0 | delta], count each, in one array so a step touches a single object; value is
+	// scratch space for property.set(), so actors may be stepped concurrently
+	private float[] values = new float[12];
 
 	public static final AltPool<TweenByAction> pool = ActionPool.make(TweenByAction.class);
 
 	TweenByAction() { } // internal
 
 	public static <T> TweenByAction obtain(ComplexActorProperty property, float[] delta, float duration) {
+		return obtain(property, delta, 0, duration);
+	}
+
+	private static TweenByAction obtain(ComplexActorProperty property, float[] delta, int offset, float duration) {
 		TweenByAction obj = pool.obtain();
 		obj.property = property;
 
 		int count = property.getCount();
-		obj.delta.ensureCapacity(count);
-		System.arraycopy(delta, 0, obj.delta.items, 0, count);
-		obj.value0.ensureCapacity(count);
-		Actions.tmpFloatArray.ensureCapacity(count - Actions.tmpFloatArray.size);
+		obj.count = count;
+		if (obj.values.length < 3 * count)
+			obj.values = new float[3 * count];
+		System.arraycopy(delta, offset, obj.values, 2 * count, count);
 
 		obj.duration = duration;
 		return obj;
@@ -52,15 +56,7 @@ public final class TweenByAction extends AbstractTweenAction {
 		super.reset();
 
 		property = null;
-		delta.size = 0;
-		value0.size = 0;
-	}
-
-	@Override
-	public void restore() {
-		super.restore();
-
-		value0.size = 0;
+		count = 0;
 	}
 
 	@Override
@@ -70,33 +66,56 @@ public final class TweenByAction extends AbstractTweenAction {
 
 	@Override
 	public TweenByAction reversed() {
-		float[] tmpItems = Actions.tmpFloatArray.items;
-		for (int i = 0, n = property.getCount(); i < n; i++) {
-			tmpItems[i] = -delta.items[i];
+		TweenByAction reversed = obtain(property, values, 2 * count, duration);
+		for (int i = 2 * count, n = 3 * count; i < n; i++) {
+			reversed.values[i] = -values[i];
 		}
 
-		TweenByAction reversed = obtain(property, tmpItems, duration);
-
 		reversed.target = target;
 		reversed.ease(easing.reversed());
 		return reversed;
 	}
 
 	@Override
-	protected void doPin() {
-		Assert.check(value0.size == 0);
+	public TweenByAction copy() {
+		TweenByAction copy = obtain(property, values, 2 * count, duration);
+
+		return copySetup(copy);
+	}
 
-		property.get(target, value0.items);
-		value0.size = property.getCount();
+	@Override
+	protected void doPin() {
+		property.get(target, values);
+		System.arraycopy(values, 0, values, count, count);
 	}
 
+	// unrolled for the common counts
 	@Override
 	protected void applyRatio(float ratio) {
-		float[] tmpItems = Actions.tmpFloatArray.items;
-		for (int i = 0, n = property.getCount(); i < n; i++) {
-			tmpItems[i] = value0.items[i] + ratio * delta.items[i];
+		float[] values = this.values;
+
+		switch (count) {
+		case 2:
+			values[0] = values[2] + ratio * values[4];
+			values[1] = values[3] + ratio * values[5];
+			break;
+		case 3:
+			values[0] = values[3] + ratio * values[6];
+			values[1] = values[4] + ratio * values[7];
+			values[2] = values[5] + ratio * values[8];
+			break;
+		case 4:
+			values[0] = values[4] + ratio * values[8];
+			values[1] = values[5] + ratio * values[9];
+			values[2] = values[6] + ratio * values[10];
+			values[3] = values[7] + ratio * values[11];
+			break;
+		default:
+			for (int i = 0, n = count; i < n; i++) {
+				values[i] = values[n + i] + ratio * values[2 * n + i];
+			}
 		}
 
-		property.set(target, tmpItems);
+		property.set(target, values);
 	}
 }
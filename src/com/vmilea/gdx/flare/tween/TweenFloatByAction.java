@@ -69,6 +69,13 @@ public final class TweenFloatByAction extends AbstractTweenAction {
 		return reversed;
 	}
 
+	@Override
+	public TweenFloatByAction copy() {
+		TweenFloatByAction copy = obtain(property, delta, duration);
+
+		return copySetup(copy);
+	}
+
 	@Override
 	protected void doPin() {
 		Assert.check(Float.isNaN(value0));
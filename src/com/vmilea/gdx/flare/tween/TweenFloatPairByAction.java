@@ -73,6 +73,13 @@ public final class TweenFloatPairByAction extends AbstractTweenAction {
 		return reversed;
 	}
 
+	@Override
+	public TweenFloatPairByAction copy() {
+		TweenFloatPairByAction copy = obtain(property, aDelta, bDelta, duration);
+
+		return copySetup(copy);
+	}
+
 	@Override
 	protected void doPin() {
 		Assert.check(Float.isNaN(a0) && Float.isNaN(b0));
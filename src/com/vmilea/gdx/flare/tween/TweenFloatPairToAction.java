@@ -76,6 +76,13 @@ public final class TweenFloatPairToAction extends AbstractTweenAction {
 		return reversed;
 	}
 
+	@Override
+	public TweenFloatPairToAction copy() {
+		TweenFloatPairToAction copy = obtain(property, a1, b1, duration);
+
+		return copySetup(copy);
+	}
+
 	@Override
 	protected void doPin() {
 		Assert.check(Float.isNaN(a0) && Float.isNaN(b0));
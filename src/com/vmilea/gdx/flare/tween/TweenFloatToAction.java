@@ -73,6 +73,13 @@ public final class TweenFloatToAction extends AbstractTweenAction {
 		return reversed;
 	}
 
+	@Override
+	public TweenFloatToAction copy() {
+		TweenFloatToAction copy = obtain(property, value1, duration);
+
+		return copySetup(copy);
+	}
+
 	@Override
 	protected void doPin() {
 		Assert.check(Float.isNaN(value0));
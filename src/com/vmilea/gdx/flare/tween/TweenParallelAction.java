@@ -20,48 +20,58 @@ import com.vmilea.gdx.flare.ActionPool;
 import com.vmilea.gdx.flare.Actions;
 import com.vmilea.gdx.pool.AltPool;
 
+// N-ary tween parallel. Children are kept sorted by duration; those that have already reached
+// their end are not applied again until a seek moves back over them.
+//
 public final class TweenParallelAction extends AbstractTweenCombinerAction {
 
-	private float durationRatio;
+	private float[] durations = new float[4]; // ascending, matches actions
+	private int finishedCount; // actions [0, finishedCount) are applied at ratio 1
 
 	public static final AltPool<TweenParallelAction> pool = ActionPool.make(TweenParallelAction.class);
 
 	TweenParallelAction() { } // internal
 
+	public static TweenParallelAction obtain() {
+		return pool.obtain();
+	}
+
 	public static TweenParallelAction obtain(AbstractTweenAction action1, AbstractTweenAction action2) {
-		TweenParallelAction obj = pool.obtain();
-
-		if (action1.duration <= action2.duration) {
-			obj.action1 = action1;
-			obj.action2 = action2;
-		} else {
-			// swap so action2 is always longer or equal to action1
-			obj.action1 = action2;
-			obj.action2 = action1;
-		}
-		obj.duration = obj.action2.duration;
+		return obtain().add(action1).add(action2);
+	}
 
-		obj.durationRatio = (obj.duration == 0 ? -1 : obj.action1.duration / obj.duration);
-		return obj;
+	public TweenParallelAction add(AbstractTweenAction action) {
+		checkAdd(action);
+
+		insert(action);
+		return this;
 	}
 
 	@Override
 	public void reset() {
 		super.reset();
 
-		durationRatio = 0;
+		finishedCount = 0;
+	}
+
+	@Override
+	public void restore() {
+		super.restore();
+
+		finishedCount = 0;
 	}
 
 	@Override
 	public TweenParallelAction reversed() {
-		TweenParallelAction reversed;
-
-		if (action1.duration == action2.duration) {
-			reversed = obtain(action1.reversed(), action2.reversed());
-		} else {
-			reversed = obtain(
-					Actions.tpaddedLeft(action1.reversed(), action2.duration - action1.duration),
-					action2.reversed());
+		TweenParallelAction reversed = obtain();
+
+		for (int i = 0, n = actions.size; i < n; i++) {
+			AbstractTweenAction action = actions.items[i];
+
+			if (action.duration == duration)
+				reversed.add(action.reversed());
+			else
+				reversed.add(Actions.tpaddedLeft(action.reversed(), duration - action.duration));
 		}
 
 		reversed.target = target;
@@ -69,30 +79,82 @@ public final class TweenParallelAction extends AbstractTweenCombinerAction {
 		return reversed;
 	}
 
+	@Override
+	public TweenParallelAction copy() {
+		TweenParallelAction copy = obtain();
+
+		for (int i = 0, n = actions.size; i < n; i++) {
+			copy.add(actions.items[i].copy());
+		}
+		PaddingAction.relink(this, copy);
+
+		return copySetup(copy);
+	}
+
 	@Override
 	public float getDuration() {
-		return Math.max(action1.getDuration(), action2.getDuration());
+		float duration = 0;
+		for (int i = 0, n = actions.size; i < n; i++) {
+			duration = Math.max(duration, actions.items[i].getDuration());
+		}
+		return duration;
 	}
 
 	@Override
 	protected void doPin() {
-		action1.pin();
-		action2.pin();
+		for (int i = 0, n = actions.size; i < n; i++) {
+			actions.items[i].pin();
+		}
 	}
 
 	@Override
 	protected void applyRatio(float ratio) {
-		if (ratio == 0) {
-			action1.applyRatio(0);
-			action2.applyRatio(0);
-		} else {
-			if (durationRatio == -1) {
-				action1.applyRatio(1);
-				action2.applyRatio(1);
-			} else {
-				action1.applyRatio(ratio > durationRatio ? 1 : ratio / durationRatio);
-				action2.applyRatio(ratio);
+		AbstractTweenAction[] items = actions.items;
+		int n = actions.size;
+
+		if (ratio == 0 || duration == 0) {
+			for (int i = 0; i < n; i++) {
+				items[i].applyRatio(ratio == 0 ? 0 : 1);
 			}
+			finishedCount = 0;
+			return;
+		}
+
+		float time = ratio * duration;
+		int finished = finishedCount;
+
+		// actions that aren't finished anymore get applied below
+		while (finished > 0 && time < durations[finished - 1]) {
+			finished--;
+		}
+		while (finished < n && time >= durations[finished]) {
+			items[finished++].applyRatio(1);
 		}
+		finishedCount = finished;
+
+		for (int i = finished; i < n; i++) {
+			items[i].applyRatio(time / durations[i]);
+		}
+	}
+
+	private void insert(AbstractTweenAction action) {
+		int n = actions.size;
+		if (n == durations.length) {
+			float[] newDurations = new float[n * 2];
+			System.arraycopy(durations, 0, newDurations, 0, n);
+			durations = newDurations;
+		}
+
+		// keep stable order among equal durations
+		float actionDuration = action.duration;
+		int index = n;
+		while (index > 0 && durations[index - 1] > actionDuration) {
+			durations[index] = durations[index - 1];
+			index--;
+		}
+		durations[index] = actionDuration;
+		actions.insert(index, action);
+
+		duration = Math.max(duration, actionDuration);
 	}
 }
@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.tween;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.vmilea.util.ArgCheck;
+
+// Immutable 2D path for TweenPathAction, made of cubic segments. Polylines and Catmull-Rom
+// splines are converted to cubic Bezier form, so all paths are evaluated the same way.
+//
+// Positions are looked up by arc length, so a linear tween moves at constant speed. Each segment
+// is sampled at construction to build a table from evenly spaced distances to curve parameters;
+// with the default 32 samples per segment, speed stays within about 3% of constant.
+// Ratios outside [0, 1] (e.g. from back or elastic easings) continue along the end tangents. The
+// reversed path mirrors the same tables.
+//
+// Paths are shared freely between actions & threads.
+//
+public final class TweenPath {
+
+	public static final int DEFAULT_SAMPLES_PER_SEGMENT = 32;
+
+	private final int segmentCount;
+	private final float[] coefficients; // per segment: ax, bx, cx, dx, ay, by, cy, dy
+	private final float length;
+	private final int resolution;
+	private final float[] params; // curve parameter at arc length i / resolution, in [0, segmentCount]
+	private final TweenPath reversed;
+	private final boolean isMirror;
+
+	// straight segments through the points
+	public static TweenPath polyline(float... xy) {
+		int pointCount = checkPoints(xy);
+
+		float[] controls = new float[2 * (3 * (pointCount - 1) + 1)];
+		for (int i = 0; i < pointCount - 1; i++) {
+			float x0 = xy[2 * i], y0 = xy[2 * i + 1];
+			float x1 = xy[2 * i + 2], y1 = xy[2 * i + 3];
+
+			int j = 6 * i;
+			controls[j] = x0;
+			controls[j + 1] = y0;
+			controls[j + 2] = x0 + (x1 - x0) / 3;
+			controls[j + 3] = y0 + (y1 - y0) / 3;
+			controls[j + 4] = x1 - (x1 - x0) / 3;
+			controls[j + 5] = y1 - (y1 - y0) / 3;
+		}
+		controls[controls.length - 2] = xy[xy.length - 2];
+		controls[controls.length - 1] = xy[xy.length - 1];
+
+		return new TweenPath(controls, DEFAULT_SAMPLES_PER_SEGMENT);
+	}
+
+	// Catmull-Rom spline through the points; end tangents aim at the neighboring points
+	public static TweenPath catmullRom(float... xy) {
+		int pointCount = checkPoints(xy);
+
+		float[] controls = new float[2 * (3 * (pointCount - 1) + 1)];
+		for (int i = 0; i < pointCount - 1; i++) {
+			float x1 = xy[2 * i], y1 = xy[2 * i + 1];
+			float x2 = xy[2 * i + 2], y2 = xy[2 * i + 3];
+			// phantom points mirror the neighbors at the ends
+			float x0 = (i > 0 ? xy[2 * i - 2] : 2 * x1 - x2);
+			float y0 = (i > 0 ? xy[2 * i - 1] : 2 * y1 - y2);
+			float x3 = (i < pointCount - 2 ? xy[2 * i + 4] : 2 * x2 - x1);
+			float y3 = (i < pointCount - 2 ? xy[2 * i + 5] : 2 * y2 - y1);
+
+			int j = 6 * i;
+			controls[j] = x1;
+			controls[j + 1] = y1;
+			controls[j + 2] = x1 + (x2 - x0) / 6;
+			controls[j + 3] = y1 + (y2 - y0) / 6;
+			controls[j + 4] = x2 - (x3 - x1) / 6;
+			controls[j + 5] = y2 - (y3 - y1) / 6;
+		}
+		controls[controls.length - 2] = xy[xy.length - 2];
+		controls[controls.length - 1] = xy[xy.length - 1];
+
+		return new TweenPath(controls, DEFAULT_SAMPLES_PER_SEGMENT);
+	}
+
+	// Cubic Bezier segments: start, control1, control2, end, control1, control2, end...
+	public static TweenPath bezier(float... xy) {
+		int pointCount = checkPoints(xy);
+		ArgCheck.check((pointCount - 1) % 3 == 0, "Bezier path needs 3 points per segment after the first");
+
+		return new TweenPath(xy.clone(), DEFAULT_SAMPLES_PER_SEGMENT);
+	}
+
+	public TweenPath(float[] bezierControls, int samplesPerSegment) {
+		ArgCheck.check(samplesPerSegment > 0, "Samples per segment must be greater than 0");
+		ArgCheck.check(bezierControls.length >= 8 && (bezierControls.length - 2) % 6 == 0,
+				"Bezier path needs 3 points per segment after the first");
+
+		segmentCount = (bezierControls.length - 2) / 6;
+		coefficients = new float[8 * segmentCount];
+
+		for (int i = 0; i < segmentCount; i++) {
+			for (int axis = 0; axis < 2; axis++) {
+				float p0 = bezierControls[6 * i + axis];
+				float p1 = bezierControls[6 * i + 2 + axis];
+				float p2 = bezierControls[6 * i + 4 + axis];
+				float p3 = bezierControls[6 * i + 6 + axis];
+
+				int j = 8 * i + 4 * axis;
+				coefficients[j] = p3 - p0 + 3 * (p1 - p2);
+				coefficients[j + 1] = 3 * (p0 - 2 * p1 + p2);
+				coefficients[j + 2] = 3 * (p1 - p0);
+				coefficients[j + 3] = p0;
+			}
+		}
+
+		// cumulative chord lengths at sampled parameters
+		int sampleCount = segmentCount * samplesPerSegment;
+		float[] distances = new float[sampleCount + 1];
+		float prevX = coefficients[3], prevY = coefficients[7];
+		for (int k = 1; k <= sampleCount; k++) {
+			float u = (float) k / samplesPerSegment;
+			float x = evaluate(u, 0), y = evaluate(u, 4);
+			distances[k] = distances[k - 1] + (float) Math.sqrt((x - prevX) * (x - prevX) + (y - prevY) * (y - prevY));
+			prevX = x;
+			prevY = y;
+		}
+		length = distances[sampleCount];
+
+		// invert into parameters at evenly spaced distances
+		resolution = sampleCount;
+		params = new float[resolution + 1];
+		for (int i = 0, k = 0; i <= resolution; i++) {
+			float distance = length * i / resolution;
+			while (k < sampleCount - 1 && distances[k + 1] < distance) {
+				k++;
+			}
+			float span = distances[k + 1] - distances[k];
+			float f = (span > 0 ? MathUtils.clamp((distance - distances[k]) / span, 0, 1) : 0);
+			params[i] = (k + f) / samplesPerSegment;
+		}
+		params[resolution] = segmentCount;
+
+		reversed = new TweenPath(this);
+		isMirror = false;
+	}
+
+	private TweenPath(TweenPath forward) { // mirrored view
+		segmentCount = forward.segmentCount;
+		coefficients = forward.coefficients;
+		length = forward.length;
+		resolution = forward.resolution;
+		params = forward.params;
+		reversed = forward;
+		isMirror = true;
+	}
+
+	public int getSegmentCount() {
+		return segmentCount;
+	}
+
+	public float getLength() {
+		return length;
+	}
+
+	public TweenPath reversed() {
+		return reversed;
+	}
+
+	// position at a fraction of the path's length
+	public Vector2 get(float ratio, Vector2 out) {
+		if (isMirror)
+			ratio = 1 - ratio;
+
+		float overshoot = 0;
+		if (ratio < 0) {
+			overshoot = ratio;
+			ratio = 0;
+		} else if (ratio > 1) {
+			overshoot = ratio - 1;
+			ratio = 1;
+		}
+
+		float u = lookup(ratio);
+		int segment = segmentOf(u);
+		float t = u - segment;
+		float[] coefficients = this.coefficients;
+		int j = 8 * segment;
+		out.x = ((coefficients[j] * t + coefficients[j + 1]) * t + coefficients[j + 2]) * t + coefficients[j + 3];
+		out.y = ((coefficients[j + 4] * t + coefficients[j + 5]) * t + coefficients[j + 6]) * t + coefficients[j + 7];
+
+		if (overshoot != 0) {
+			float dx = derive(u, 0), dy = derive(u, 4);
+			float norm = (float) Math.sqrt(dx * dx + dy * dy);
+			if (norm > 0) {
+				float scale = overshoot * length / norm;
+				out.x += dx * scale;
+				out.y += dy * scale;
+			}
+		}
+		return out;
+	}
+
+	// direction of travel in degrees, counterclockwise from the x axis
+	public float getAngle(float ratio) {
+		if (isMirror)
+			ratio = 1 - ratio;
+
+		float u = lookup(MathUtils.clamp(ratio, 0, 1));
+		float angle = MathUtils.atan2(derive(u, 4), derive(u, 0)) * MathUtils.radiansToDegrees;
+		return (isMirror ? angle + 180 : angle);
+	}
+
+	//
+	// private members
+	//
+
+	private float lookup(float ratio) {
+		float x = ratio * resolution;
+		int i = Math.min((int) x, resolution - 1);
+		float f = x - i;
+		return params[i] + f * (params[i + 1] - params[i]);
+	}
+
+	private int segmentOf(float u) {
+		return Math.min((int) u, segmentCount - 1);
+	}
+
+	private float evaluate(float u, int axis) {
+		int segment = segmentOf(u);
+		float t = u - segment;
+		int j = 8 * segment + axis;
+		return ((coefficients[j] * t + coefficients[j + 1]) * t + coefficients[j + 2]) * t + coefficients[j + 3];
+	}
+
+	private float derive(float u, int axis) {
+		int segment = segmentOf(u);
+		float t = u - segment;
+		int j = 8 * segment + axis;
+		return (3 * coefficients[j] * t + 2 * coefficients[j + 1]) * t + coefficients[j + 2];
+	}
+
+	private static int checkPoints(float[] xy) {
+		ArgCheck.check(xy.length % 2 == 0, "Path coordinates must come in x, y pairs");
+		ArgCheck.check(xy.length >= 4, "Path needs at least 2 points");
+		return xy.length / 2;
+	}
+}
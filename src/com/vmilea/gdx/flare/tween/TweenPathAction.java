@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.tween;
+
+import com.badlogic.gdx.math.Vector2;
+import com.vmilea.gdx.flare.ActionPool;
+import com.vmilea.gdx.flare.actor.ActorProperties;
+import com.vmilea.gdx.flare.actor.FloatActorProperty;
+import com.vmilea.gdx.flare.actor.FloatPairActorProperty;
+import com.vmilea.gdx.pool.AltPool;
+
+// Moves a pair property along a TweenPath, at constant speed unless eased. Optionally orients the
+// target to the path tangent, writing the angle (plus an offset) to a rotation property. The path
+// is absolute, so the tween doesn't depend on where the target starts and is always reversible.
+//
+public final class TweenPathAction extends AbstractTweenAction {
+
+	private FloatPairActorProperty property;
+	private TweenPath path;
+	private FloatActorProperty rotationProperty; // null if not oriented
+	private float rotationOffset;
+	private final Vector2 point = new Vector2();
+
+	public static final AltPool<TweenPathAction> pool = ActionPool.make(TweenPathAction.class);
+
+	TweenPathAction() { } // internal
+
+	public static TweenPathAction obtain(FloatPairActorProperty property, TweenPath path, float duration) {
+		TweenPathAction obj = pool.obtain();
+		obj.property = property;
+		obj.path = path;
+		obj.duration = duration;
+		return obj;
+	}
+
+	public TweenPathAction orient() {
+		return orient(ActorProperties.rotation, 0);
+	}
+
+	public TweenPathAction orient(FloatActorProperty rotationProperty, float rotationOffset) {
+		this.rotationProperty = rotationProperty;
+		this.rotationOffset = rotationOffset;
+		return this;
+	}
+
+	public TweenPath getPath() {
+		return path;
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+
+		property = null;
+		path = null;
+		rotationProperty = null;
+		rotationOffset = 0;
+	}
+
+	@Override
+	public boolean isReversible() {
+		return true;
+	}
+
+	@Override
+	public TweenPathAction reversed() {
+		TweenPathAction reversed = obtain(property, path.reversed(), duration);
+
+		reversed.target = target;
+		reversed.ease(easing.reversed());
+		reversed.orient(rotationProperty, rotationOffset);
+		return reversed;
+	}
+
+	@Override
+	public TweenPathAction copy() {
+		TweenPathAction copy = obtain(property, path, duration);
+
+		copy.orient(rotationProperty, rotationOffset);
+		return copySetup(copy);
+	}
+
+	@Override
+	protected void doPin() {
+	}
+
+	@Override
+	protected void applyRatio(float ratio) {
+		path.get(ratio, point);
+		property.set(target, point.x, point.y);
+
+		if (rotationProperty != null)
+			rotationProperty.set(target, path.getAngle(ratio) + rotationOffset);
+	}
+}
@@ -18,95 +18,162 @@ package com.vmilea.gdx.flare.tween;
 
 import com.vmilea.gdx.flare.ActionPool;
 import com.vmilea.gdx.pool.AltPool;
+import com.vmilea.util.StateCheck;
 
+// N-ary tween sequence. Children are kept in an array with their cumulative end times, so
+// seeking is a cursor check during playback and a binary search on random access.
+//
 public final class TweenSequenceAction extends AbstractTweenCombinerAction {
 
-	private float fenceRatio;
-	private AbstractTweenAction currentAction;
+	private float[] ends = new float[4]; // cumulative end time of each action
+	private int cursor; // index of the current action
 
 	public static final AltPool<TweenSequenceAction> pool = ActionPool.make(TweenSequenceAction.class);
 
 	TweenSequenceAction() { } // internal
 
+	public static TweenSequenceAction obtain() {
+		return pool.obtain();
+	}
+
 	public static TweenSequenceAction obtain(AbstractTweenAction action1, AbstractTweenAction action2) {
-		TweenSequenceAction obj = pool.obtain();
+		return obtain().add(action1).add(action2);
+	}
 
-		obj.action1 = action1;
-		obj.action2 = action2;
-		obj.duration = action1.duration + action2.duration;
+	public TweenSequenceAction add(AbstractTweenAction action) {
+		checkAdd(action);
 
-		obj.fenceRatio = (obj.duration == 0 ? 0 : action1.duration / obj.duration);
-		obj.currentAction = action1;
-		return obj;
+		append(action);
+		return this;
 	}
 
 	@Override
 	public void reset() {
 		super.reset();
 
-		fenceRatio = 0;
-		currentAction = null;
+		cursor = 0;
 	}
 
 	@Override
 	public void restore() {
 		super.restore();
 
-		currentAction = action1;
+		cursor = 0;
 	}
 
 	@Override
 	public TweenSequenceAction reversed() {
-		TweenSequenceAction reversed = obtain(action2.reversed(), action1.reversed());
+		TweenSequenceAction reversed = obtain();
+
+		for (int i = actions.size - 1; i >= 0; i--) {
+			reversed.add(actions.items[i].reversed());
+		}
 
 		reversed.target = target;
 		reversed.ease(easing.reversed());
 		return reversed;
 	}
 
+	@Override
+	public TweenSequenceAction copy() {
+		TweenSequenceAction copy = obtain();
+
+		for (int i = 0, n = actions.size; i < n; i++) {
+			copy.add(actions.items[i].copy());
+		}
+		PaddingAction.relink(this, copy);
+
+		return copySetup(copy);
+	}
+
 	@Override
 	public float getDuration() {
-		return action1.getDuration() + action2.getDuration();
+		float duration = 0;
+		for (int i = 0, n = actions.size; i < n; i++) {
+			duration += actions.items[i].getDuration();
+		}
+		return duration;
 	}
 
 	@Override
 	protected void doPin() {
-		action1.pin();
-		action1.pinPush();
-		action2.pin();
-		action1.pinPop();
+		StateCheck.check(actions.size > 0, "TweenSequenceAction needs at least one action");
+
+		AbstractTweenAction[] items = actions.items;
+		int last = actions.size - 1;
+
+		// each action pins on top of the end state of the ones before it
+		for (int i = 0; i < last; i++) {
+			items[i].pin();
+			items[i].pinPush();
+		}
+		items[last].pin();
+
+		for (int i = last - 1; i >= 0; i--) {
+			items[i].pinPop();
+		}
 	}
 
 	@Override
 	protected void applyRatio(float ratio) {
-		if (fenceRatio == 0) {
-			if (ratio == 0) {
-				if (currentAction == action2) {
-					action2.applyRatio(0);
-					currentAction = action1;
-				}
-				action1.applyRatio(0);
-			} else {
-				if (currentAction == action1) {
-					action1.applyRatio(1);
-					currentAction = action2;
-				}
-				action2.applyRatio(duration == 0 ? 1 : ratio);
-			}
-		} else {
-			if (ratio >= fenceRatio) {
-				if (currentAction == action1) {
-					action1.applyRatio(1);
-					currentAction = action2;
-				}
-				action2.applyRatio(fenceRatio == 1 ? 1 : (ratio - fenceRatio) / (1 - fenceRatio));
-			} else {
-				if (currentAction == action2) {
-					action2.applyRatio(0);
-					currentAction = action1;
-				}
-				action1.applyRatio(ratio / fenceRatio);
-			}
+		AbstractTweenAction[] items = actions.items;
+		float time = ratio * duration;
+		int index = findAction(ratio, time);
+
+		while (cursor < index) {
+			items[cursor++].applyRatio(1);
+		}
+		while (cursor > index) {
+			items[cursor--].applyRatio(0);
+		}
+
+		float start = (index == 0 ? 0 : ends[index - 1]);
+		float length = ends[index] - start;
+
+		if (length == 0)
+			items[index].applyRatio(ratio == 0 ? 0 : 1);
+		else
+			items[index].applyRatio((time - start) / length);
+	}
+
+	private void append(AbstractTweenAction action) {
+		int index = actions.size;
+		if (index == ends.length) {
+			float[] newEnds = new float[index * 2];
+			System.arraycopy(ends, 0, newEnds, 0, index);
+			ends = newEnds;
+		}
+
+		actions.add(action);
+		duration += action.duration;
+		ends[index] = duration;
+	}
+
+	// last action starting at or before time; ratio 0 always maps to the first action
+	private int findAction(float ratio, float time) {
+		if (ratio <= 0)
+			return 0;
+
+		int last = actions.size - 1;
+		float[] ends = this.ends;
+
+		// playback moves forward at most one action per frame, usually
+		int k = cursor;
+		if ((k == 0 || ends[k - 1] <= time) && (k == last || time < ends[k]))
+			return k;
+		k++;
+		if (k <= last && ends[k - 1] <= time && (k == last || time < ends[k]))
+			return k;
+
+		// count of ends[0 .. last) that are <= time
+		int lo = 0, hi = last;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (ends[mid] <= time)
+				lo = mid + 1;
+			else
+				hi = mid;
 		}
+		return lo;
 	}
 }
@@ -16,33 +16,37 @@
 
 package com.vmilea.gdx.flare.tween;
 
-import com.badlogic.gdx.utils.FloatArray;
 import com.vmilea.gdx.flare.ActionPool;
-import com.vmilea.gdx.flare.Actions;
 import com.vmilea.gdx.flare.actor.ComplexActorProperty;
 import com.vmilea.gdx.pool.AltPool;
-import com.vmilea.util.Assert;
 import com.vmilea.util.StateCheck;
 
 public final class TweenToAction extends AbstractTweenAction {
 
 	private ComplexActorProperty property;
-	private final FloatArray value1 = new FloatArray(4);
-	private final FloatArray value0 = new FloatArray(4);
+	private int count; // property.getCount(), cached
+
+	// [value | value0 | value1], count each, in one array so a step touches a single object; value is
+	// scratch space for property.set(), so actors may be stepped concurrently
+	private float[] values = new float[12];
 
 	public static final AltPool<TweenToAction> pool = ActionPool.make(TweenToAction.class);
 
 	TweenToAction() { } // internal
 
 	public static TweenToAction obtain(ComplexActorProperty property, float[] value1, float duration) {
+		return obtain(property, value1, 0, duration);
+	}
+
+	private static TweenToAction obtain(ComplexActorProperty property, float[] value1, int offset, float duration) {
 		TweenToAction obj = pool.obtain();
 		obj.property = property;
 
 		int count = property.getCount();
-		obj.value1.ensureCapacity(count);
-		System.arraycopy(value1, 0, obj.value1.items, 0, count);
-		obj.value0.ensureCapacity(count);
-		Actions.tmpFloatArray.ensureCapacity(count - Actions.tmpFloatArray.size);
+		obj.count = count;
+		if (obj.values.length < 3 * count)
+			obj.values = new float[3 * count];
+		System.arraycopy(value1, offset, obj.values, 2 * count, count);
 
 		obj.duration = duration;
 		return obj;
@@ -53,15 +57,7 @@ public final class TweenToAction extends AbstractTweenAction {
 		super.reset();
 
 		property = null;
-		value1.size = 0;
-		value0.size = 0;
-	}
-
-	@Override
-	public void restore() {
-		super.restore();
-
-		value0.size = 0;
+		count = 0;
 	}
 
 	@Override
@@ -74,7 +70,7 @@ public final class TweenToAction extends AbstractTweenAction {
 		if (!isReversible())
 			StateCheck.fail("%s can't be reversed unless pinned", getClass().getSimpleName());
 
-		TweenToAction reversed = obtain(property, value0.items, duration);
+		TweenToAction reversed = obtain(property, values, count, duration);
 
 		reversed.target = target;
 		reversed.ease(easing.reversed());
@@ -82,20 +78,45 @@ public final class TweenToAction extends AbstractTweenAction {
 	}
 
 	@Override
-	protected void doPin() {
-		Assert.check(value0.size == 0);
+	public TweenToAction copy() {
+		TweenToAction copy = obtain(property, values, 2 * count, duration);
+
+		return copySetup(copy);
+	}
 
-		property.get(target, value0.items);
-		value0.size = property.getCount();
+	@Override
+	protected void doPin() {
+		property.get(target, values);
+		System.arraycopy(values, 0, values, count, count);
 	}
 
+	// unrolled for the common counts
 	@Override
 	protected void applyRatio(float ratio) {
-		float[] tmpItems = Actions.tmpFloatArray.items;
-		for (int i = 0, n = property.getCount(); i < n; i++) {
-			tmpItems[i] = (1 - ratio) * value0.items[i] + ratio * value1.items[i];
+		float[] values = this.values;
+
+		switch (count) {
+		case 2:
+			values[0] = (1 - ratio) * values[2] + ratio * values[4];
+			values[1] = (1 - ratio) * values[3] + ratio * values[5];
+			break;
+		case 3:
+			values[0] = (1 - ratio) * values[3] + ratio * values[6];
+			values[1] = (1 - ratio) * values[4] + ratio * values[7];
+			values[2] = (1 - ratio) * values[5] + ratio * values[8];
+			break;
+		case 4:
+			values[0] = (1 - ratio) * values[4] + ratio * values[8];
+			values[1] = (1 - ratio) * values[5] + ratio * values[9];
+			values[2] = (1 - ratio) * values[6] + ratio * values[10];
+			values[3] = (1 - ratio) * values[7] + ratio * values[11];
+			break;
+		default:
+			for (int i = 0, n = count; i < n; i++) {
+				values[i] = (1 - ratio) * values[n + i] + ratio * values[2 * n + i];
+			}
 		}
 
-		property.set(target, tmpItems);
+		property.set(target, values);
 	}
 }
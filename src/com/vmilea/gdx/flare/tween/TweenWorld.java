@@ -0,0 +1,372 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.tween;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.scenes.scene2d.Action;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.vmilea.gdx.flare.actor.ActorProperties;
+import com.vmilea.gdx.flare.actor.FloatActorProperty;
+import com.vmilea.util.ArgCheck;
+import com.vmilea.util.Assert;
+
+// Batched engine for simple float tweens. Tweens are stored as parallel primitive arrays and
+// stepped in one loop, skipping the run -> doRun -> seek -> applyRatio chain of regular tween
+// actions. Built-in properties and the common easings are dispatched by id without virtual calls.
+//
+// Add the world to the stage root, so it steps before any actor acts (a group runs its own
+// actions before its children), or call step() right before stage.act(). Fire-and-forget tweens
+// are started with tweenTo() / tweenBy(); inside action trees use TweenWorldAction handles.
+//
+public final class TweenWorld extends Action {
+
+	public static final int DEFAULT_CAPACITY = 256;
+
+	// built-in property ids
+	private static final int X = 0;
+	private static final int Y = 1;
+	private static final int ROTATION = 2;
+	private static final int ALPHA = 3;
+	private static final int SCALE_X = 4;
+	private static final int SCALE_Y = 5;
+	private static final int WIDTH = 6;
+	private static final int HEIGHT = 7;
+
+	// built-in easing ids
+	private static final int LINEAR = 0;
+	private static final int EASE_IN_QUAD = 1;
+	private static final int EASE_OUT_QUAD = 2;
+	private static final int EASE_IN_OUT_QUAD = 3;
+
+	// handle states
+	private static final byte FREE = 0;
+	private static final byte ACTIVE = 1;
+	private static final byte FINISHED = 2;
+
+	private final Array<FloatActorProperty> properties = new Array<FloatActorProperty>();
+	private final ObjectIntMap<FloatActorProperty> propertyIds = new ObjectIntMap<FloatActorProperty>();
+	private final Array<Easing> easings = new Array<Easing>();
+	private final ObjectIntMap<Easing> easingIds = new ObjectIntMap<Easing>();
+
+	// tweens, packed in [0, size)
+	private int size;
+	private Actor[] targets;
+	private int[] propertyIndices;
+	private float[] values0;
+	private float[] deltas;
+	private float[] elapsedTimes;
+	private float[] durations;
+	private int[] easingIndices;
+	private int[] handles; // -1 for fire-and-forget
+
+	// handles
+	private int[] handleSlots = new int[0];
+	private byte[] handleStates = new byte[0];
+	private float[] handleExcessDts = new float[0];
+	private final IntArray freeHandles = new IntArray();
+
+	public TweenWorld() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public TweenWorld(int initialCapacity) {
+		ArgCheck.check(initialCapacity > 0, "Capacity must be greater than 0");
+
+		targets = new Actor[initialCapacity];
+		propertyIndices = new int[initialCapacity];
+		values0 = new float[initialCapacity];
+		deltas = new float[initialCapacity];
+		elapsedTimes = new float[initialCapacity];
+		durations = new float[initialCapacity];
+		easingIndices = new int[initialCapacity];
+		handles = new int[initialCapacity];
+
+		registerProperty(ActorProperties.x, X);
+		registerProperty(ActorProperties.y, Y);
+		registerProperty(ActorProperties.rotation, ROTATION);
+		registerProperty(ActorProperties.alpha, ALPHA);
+		registerProperty(ActorProperties.scaleX, SCALE_X);
+		registerProperty(ActorProperties.scaleY, SCALE_Y);
+		registerProperty(ActorProperties.width, WIDTH);
+		registerProperty(ActorProperties.height, HEIGHT);
+
+		registerEasing(Easings.linear, LINEAR);
+		registerEasing(Easings.easeInQuad, EASE_IN_QUAD);
+		registerEasing(Easings.easeOutQuad, EASE_OUT_QUAD);
+		registerEasing(Easings.easeInOutQuad, EASE_IN_OUT_QUAD);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void tweenTo(Actor target, FloatActorProperty property, float value1, float duration, Easing easing) {
+		float value0 = property.get(target);
+		start(target, property, value0, value1 - value0, duration, easing, 0, false);
+	}
+
+	public void tweenBy(Actor target, FloatActorProperty property, float delta, float duration, Easing easing) {
+		start(target, property, property.get(target), delta, duration, easing, 0, false);
+	}
+
+	// stops fire-and-forget tweens on target, leaving the property at its current value
+	public void cancel(Actor target) {
+		for (int i = 0; i < size; ) {
+			if (targets[i] == target && handles[i] == -1)
+				removeSlot(i);
+			else
+				i++;
+		}
+	}
+
+	public void clear() {
+		for (int i = size - 1; i >= 0; i--) {
+			int handle = handles[i];
+			if (handle != -1) {
+				// leave it to the owning action
+				handleStates[handle] = FINISHED;
+				handleExcessDts[handle] = 0;
+			}
+		}
+
+		Arrays.fill(targets, 0, size, null);
+		size = 0;
+	}
+
+	@Override
+	public boolean act(float dt) {
+		step(dt);
+		return false;
+	}
+
+	public void step(float dt) {
+		Actor[] targets = this.targets;
+		float[] elapsedTimes = this.elapsedTimes;
+		float[] durations = this.durations;
+
+		for (int i = 0; i < size; ) {
+			float elapsed = elapsedTimes[i] + dt;
+			float duration = durations[i];
+
+			if (elapsed < duration) {
+				elapsedTimes[i] = elapsed;
+				apply(targets[i], propertyIndices[i], values0[i] + ease(easingIndices[i], elapsed / duration) * deltas[i]);
+				i++;
+			} else {
+				apply(targets[i], propertyIndices[i], values0[i] + ease(easingIndices[i], 1) * deltas[i]);
+
+				int handle = handles[i];
+				if (handle != -1) {
+					handleStates[handle] = FINISHED;
+					handleExcessDts[handle] = elapsed - duration;
+				}
+				removeSlot(i); // last tween moves into slot i, not stepped yet
+			}
+		}
+	}
+
+	//
+	// handles, used by TweenWorldAction
+	//
+
+	// returns a handle, or -1 if the tween has finished already
+	int start(Actor target, FloatActorProperty property, float value0, float delta, float duration, Easing easing,
+			float elapsed, boolean needsHandle) {
+		int propertyIndex = propertyIds.get(property, -1);
+		if (propertyIndex == -1)
+			propertyIndex = registerProperty(property, properties.size);
+		int easingIndex = easingIds.get(easing, -1);
+		if (easingIndex == -1)
+			easingIndex = registerEasing(easing, easings.size);
+
+		if (elapsed >= duration) {
+			apply(target, propertyIndex, value0 + ease(easingIndex, 1) * delta);
+			return -1;
+		}
+		apply(target, propertyIndex, value0 + ease(easingIndex, elapsed / duration) * delta);
+
+		if (size == targets.length)
+			grow();
+
+		int slot = size++;
+		targets[slot] = target;
+		propertyIndices[slot] = propertyIndex;
+		values0[slot] = value0;
+		deltas[slot] = delta;
+		elapsedTimes[slot] = elapsed;
+		durations[slot] = duration;
+		easingIndices[slot] = easingIndex;
+
+		int handle = -1;
+		if (needsHandle) {
+			handle = obtainHandle();
+			handleSlots[handle] = slot;
+			handleStates[handle] = ACTIVE;
+		}
+		handles[slot] = handle;
+		return handle;
+	}
+
+	boolean isFinished(int handle) {
+		return handleStates[handle] == FINISHED;
+	}
+
+	float getExcessDt(int handle) {
+		Assert.check(handleStates[handle] == FINISHED);
+		return handleExcessDts[handle];
+	}
+
+	// jumps the tween to its end; the owning action still releases the handle
+	void finish(int handle) {
+		if (handleStates[handle] != ACTIVE)
+			return;
+
+		int slot = handleSlots[handle];
+		apply(targets[slot], propertyIndices[slot], values0[slot] + ease(easingIndices[slot], 1) * deltas[slot]);
+		removeSlot(slot);
+
+		handleStates[handle] = FINISHED;
+		handleExcessDts[handle] = 0;
+	}
+
+	void release(int handle) {
+		byte state = handleStates[handle];
+		Assert.check(state != FREE);
+
+		if (state == ACTIVE)
+			removeSlot(handleSlots[handle]);
+
+		handleStates[handle] = FREE;
+		freeHandles.add(handle);
+	}
+
+	//
+	// private members
+	//
+
+	private int registerProperty(FloatActorProperty property, int index) {
+		Assert.check(index == properties.size);
+		properties.add(property);
+		propertyIds.put(property, index);
+		return index;
+	}
+
+	private int registerEasing(Easing easing, int index) {
+		Assert.check(index == easings.size);
+		easings.add(easing);
+		easingIds.put(easing, index);
+		return index;
+	}
+
+	private float ease(int easingIndex, float t) {
+		switch (easingIndex) {
+		case LINEAR:
+			return t;
+		case EASE_IN_QUAD:
+			return t * t;
+		case EASE_OUT_QUAD:
+			return t * (2 - t);
+		case EASE_IN_OUT_QUAD:
+			return (t < 0.5f ? 2 * t * t : 2 * t * (2 - t) - 1);
+		default:
+			return easings.get(easingIndex).get(t);
+		}
+	}
+
+	private void apply(Actor target, int propertyIndex, float value) {
+		switch (propertyIndex) {
+		case X:
+			target.setX(value);
+			break;
+		case Y:
+			target.setY(value);
+			break;
+		case ROTATION:
+			target.setRotation(value);
+			break;
+		case ALPHA:
+			target.getColor().a = value;
+			break;
+		case SCALE_X:
+			target.setScaleX(value);
+			break;
+		case SCALE_Y:
+			target.setScaleY(value);
+			break;
+		case WIDTH:
+			target.setWidth(value);
+			break;
+		case HEIGHT:
+			target.setHeight(value);
+			break;
+		default:
+			properties.get(propertyIndex).set(target, value);
+		}
+	}
+
+	private void removeSlot(int slot) {
+		int last = --size;
+
+		if (slot != last) {
+			targets[slot] = targets[last];
+			propertyIndices[slot] = propertyIndices[last];
+			values0[slot] = values0[last];
+			deltas[slot] = deltas[last];
+			elapsedTimes[slot] = elapsedTimes[last];
+			durations[slot] = durations[last];
+			easingIndices[slot] = easingIndices[last];
+			handles[slot] = handles[last];
+
+			if (handles[slot] != -1)
+				handleSlots[handles[slot]] = slot;
+		}
+		targets[last] = null;
+	}
+
+	private int obtainHandle() {
+		if (freeHandles.size > 0)
+			return freeHandles.pop();
+
+		int handle = handleStates.length;
+		int capacity = Math.max(16, handle * 2);
+		handleSlots = Arrays.copyOf(handleSlots, capacity);
+		handleStates = Arrays.copyOf(handleStates, capacity);
+		handleExcessDts = Arrays.copyOf(handleExcessDts, capacity);
+
+		for (int i = capacity - 1; i > handle; i--) {
+			freeHandles.add(i);
+		}
+		return handle;
+	}
+
+	private void grow() {
+		int capacity = Math.max(8, (int) (targets.length * 1.75f));
+
+		targets = Arrays.copyOf(targets, capacity);
+		propertyIndices = Arrays.copyOf(propertyIndices, capacity);
+		values0 = Arrays.copyOf(values0, capacity);
+		deltas = Arrays.copyOf(deltas, capacity);
+		elapsedTimes = Arrays.copyOf(elapsedTimes, capacity);
+		durations = Arrays.copyOf(durations, capacity);
+		easingIndices = Arrays.copyOf(easingIndices, capacity);
+		handles = Arrays.copyOf(handles, capacity);
+	}
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.flare.tween;
+
+import com.vmilea.gdx.flare.AbstractAction;
+import com.vmilea.gdx.flare.ActionPool;
+import com.vmilea.gdx.flare.actor.FloatActorProperty;
+import com.vmilea.gdx.pool.AltPool;
+import com.vmilea.util.Assert;
+
+// Thin handle for a float tween stepped by a TweenWorld. On its first run the tween is handed to
+// the world, together with the carried-over dt; after that the world does all the work and the
+// action only reports when it's done, with the world's excess dt.
+//
+// The world steps on its own clock, so don't place handles under timeScale() or ease().
+//
+public final class TweenWorldAction extends AbstractAction {
+
+	private TweenWorld world;
+	private FloatActorProperty property;
+	private float value; // value1 or delta
+	private boolean isRelative;
+	private float duration;
+	private Easing easing = Easings.linear;
+
+	private float value0 = Float.NaN;
+	private int handle = -1;
+	private boolean isStarted;
+
+	public static final AltPool<TweenWorldAction> pool = ActionPool.make(TweenWorldAction.class);
+
+	TweenWorldAction() { } // internal
+
+	public static TweenWorldAction obtainTo(TweenWorld world, FloatActorProperty property, float value1, float duration) {
+		return obtain(world, property, value1, false, duration);
+	}
+
+	public static TweenWorldAction obtainBy(TweenWorld world, FloatActorProperty property, float delta, float duration) {
+		return obtain(world, property, delta, true, duration);
+	}
+
+	private static TweenWorldAction obtain(TweenWorld world, FloatActorProperty property, float value, boolean isRelative, float duration) {
+		TweenWorldAction obj = pool.obtain();
+		obj.world = world;
+		obj.property = property;
+		obj.value = value;
+		obj.isRelative = isRelative;
+		obj.duration = duration;
+		return obj;
+	}
+
+	public TweenWorldAction ease(Easing easing) {
+		this.easing = easing;
+		return this;
+	}
+
+	@Override
+	public void reset() {
+		releaseHandle();
+		super.reset();
+
+		world = null;
+		property = null;
+		value = 0;
+		isRelative = false;
+		duration = 0;
+		easing = Easings.linear;
+		value0 = Float.NaN;
+		isStarted = false;
+	}
+
+	@Override
+	public void restore() {
+		super.restore();
+
+		Assert.check(handle == -1);
+		value0 = Float.NaN;
+		isStarted = false;
+	}
+
+	@Override
+	public TweenWorldAction copy() {
+		TweenWorldAction copy = obtain(world, property, value, isRelative, duration);
+
+		copy.target = target;
+		copy.ease(easing);
+		return copy;
+	}
+
+	@Override
+	public float getDuration() {
+		return duration;
+	}
+
+	@Override
+	public boolean isActorLocal() {
+		return false; // the world is shared
+	}
+
+	@Override
+	protected void doPin() {
+		Assert.check(Float.isNaN(value0));
+
+		value0 = property.get(target);
+	}
+
+	@Override
+	protected float doRun(float dt) {
+		if (!isStarted) {
+			isStarted = true;
+
+			float delta = (isRelative ? value : value - value0);
+			handle = world.start(target, property, value0, delta, duration, easing, dt, true);
+
+			if (handle == -1) {
+				isDone = true;
+				return dt - duration;
+			}
+			return 0;
+		}
+
+		if (world.isFinished(handle)) {
+			float excessDt = world.getExcessDt(handle);
+			releaseHandle();
+			isDone = true;
+			return excessDt;
+		}
+		return 0;
+	}
+
+	@Override
+	protected void fastForward(float dtPerStep) {
+		if (!isStarted) {
+			doRun(duration); // finishes right away
+			return;
+		}
+
+		world.finish(handle);
+		releaseHandle();
+		isDone = true;
+	}
+
+	private void releaseHandle() {
+		if (handle != -1) {
+			world.release(handle);
+			handle = -1;
+		}
+	}
+}
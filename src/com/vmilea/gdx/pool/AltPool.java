@@ -18,6 +18,7 @@ package com.vmilea.gdx.pool;
 
 import java.util.ArrayDeque;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.utils.Array;
@@ -55,19 +56,35 @@ public abstract class AltPool<T extends Poolable> extends com.badlogic.gdx.utils
 			for (int k = maxTypeNameLength - sb.length(); k > 0; k--)
 				sb.append(' ');
 
-			Gdx.app.log("POOL", String.format("%s : f+l: %4d, f: %4d, l: %4d; peak f: %4d, peak l: %4d",
+			Gdx.app.log("POOL", String.format("%s : f+l: %4d, f: %4d, l: %4d; peak f: %4d, peak l: %4d; released: %4d",
 					sb,
 					pool.getFree() + pool.getLoose(), pool.getFree(), pool.getLoose(),
-					pool.getPeakFree(), pool.getPeakLoose()));
+					pool.getPeakFree(), pool.getPeakLoose(), pool.getReleased()));
 			sb.setLength(0);
 		}
 	}
 
+	// Applies each pool's trim policy; returns how many free objects were released.
+	//
+	public static int trimAll(float dt) {
+		int released = 0;
+		for (int i = 0, n = registeredPools.size; i < n; i++) {
+			released += registeredPools.get(i).trim(dt);
+		}
+		return released;
+	}
+
 	private final ArrayDeque<T> freeObjects;
 	private int looseCount;
 	private int peakLooseCount;
 	private final Class<T> pooledType;
 
+	private volatile TrimPolicy trimPolicy = TrimPolicy.NONE;
+	private float averageLoose = -1; // not sampled yet
+	private float idleTime;
+	volatile boolean obtainedSinceTrim;
+	private final AtomicInteger releasedCount = new AtomicInteger();
+
 	abstract protected T newObject();
 
 	public AltPool(Class<T> pooledType) {
@@ -109,6 +126,74 @@ public abstract class AltPool<T extends Poolable> extends com.badlogic.gdx.utils
 		return peakLooseCount;
 	}
 
+	// total free objects dropped by the trim policy
+	public int getReleased() {
+		return releasedCount.get();
+	}
+
+	public TrimPolicy getTrimPolicy() {
+		return trimPolicy;
+	}
+
+	public synchronized void setTrimPolicy(TrimPolicy trimPolicy) {
+		ArgCheck.check(trimPolicy != null, "Trim policy may not be null");
+
+		this.trimPolicy = trimPolicy;
+		averageLoose = -1;
+		idleTime = 0;
+	}
+
+	// Releases free objects according to the trim policy. Call periodically, dt being the time
+	// since the previous call. Returns how many objects were released.
+	//
+	public synchronized int trim(float dt) {
+		TrimPolicy policy = trimPolicy;
+		int free = getFree();
+		float keep = policy.maxFree;
+
+		if (obtainedSinceTrim) {
+			obtainedSinceTrim = false;
+			idleTime = 0;
+		} else {
+			idleTime += dt;
+		}
+
+		if (policy.averageWindow > 0) {
+			int loose = getLoose();
+			float weight = 1 - (float) Math.exp(-dt / policy.averageWindow);
+
+			if (averageLoose < 0)
+				averageLoose = loose;
+			else
+				averageLoose += (loose - averageLoose) * weight;
+
+			// shed a share of the excess each call, so the free count decays instead of dropping
+			if (free > averageLoose)
+				keep = Math.min(keep, averageLoose + (free - averageLoose) * (1 - weight));
+		}
+
+		if (policy.idleDelay > 0 && idleTime >= policy.idleDelay)
+			keep = 0;
+
+		int excess = free - (int) keep;
+		return (excess > 0 ? trimFree(excess) : 0);
+	}
+
+	// Releases up to count free objects right away, regardless of policy.
+	//
+	public synchronized int trimFree(int count) {
+		int released = 0;
+		while (released < count && freeObjects.pollLast() != null) {
+			released++;
+		}
+		countReleased(released);
+		return released;
+	}
+
+	void countReleased(int count) {
+		releasedCount.addAndGet(count);
+	}
+
 	public synchronized void breakAway(T object) {
 		if (object != null) {
 			if (object instanceof PoolItem) {
@@ -133,6 +218,7 @@ public abstract class AltPool<T extends Poolable> extends com.badlogic.gdx.utils
 
 	@Override
 	public synchronized T obtain() {
+		obtainedSinceTrim = true;
 		looseCount++;
 		peakLooseCount = Math.max(looseCount, peakLooseCount);
 
@@ -170,8 +256,12 @@ public abstract class AltPool<T extends Poolable> extends com.badlogic.gdx.utils
 			}
 
 			object.reset();
-			freeObjects.addFirst(object);
-			peak = Math.max(peak, freeObjects.size());
+			if (freeObjects.size() < trimPolicy.maxFree) {
+				freeObjects.addFirst(object);
+				peak = Math.max(peak, freeObjects.size());
+			} else {
+				countReleased(1);
+			}
 
 			Assert.check(looseCount > 0);
 			looseCount--;
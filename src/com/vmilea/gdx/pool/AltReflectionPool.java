@@ -39,15 +39,19 @@ public class AltReflectionPool<T extends Poolable> extends AltPool<T> {
 	@SuppressWarnings("unchecked")
 	@Override
 	protected T newObject() {
+		return (T) newInstance(constructor);
+	}
+	
+	static Object newInstance(Constructor constructor) {
 		try {
-			return (T) constructor.newInstance((Object[]) null);
+			return constructor.newInstance((Object[]) null);
 		} catch (ReflectionException e) {
 			ArgCheck.fail("Failed to create new instance of %s", constructor.getDeclaringClass().getSimpleName());
 			return null;
 		}
 	}
 	
-	private Constructor findConstructor(Class<T> pooledType) {
+	static Constructor findConstructor(Class<?> pooledType) {
 		Constructor constructor = null;
 		
 		try {
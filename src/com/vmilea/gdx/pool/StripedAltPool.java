@@ -0,0 +1,335 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.pool;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool.Poolable;
+import com.vmilea.util.ArgCheck;
+import com.vmilea.util.Assert;
+
+// Lock-free AltPool. Every thread keeps a private cache of free objects (two magazines of
+// BATCH_SIZE) and trades full magazines through a shared lock-free stack, so obtain() and free()
+// never take a monitor. Objects obtained on one thread may be freed on another.
+//
+// Loose & peak counts are atomic and stay exact; the free count is derived from them. clear()
+// drops the shared stack right away and other threads' caches on their next pool access.
+//
+// Trimming releases whole magazines from the shared stack, then objects cached by the calling
+// thread. Other threads' caches are out of reach and keep up to 2 * BATCH_SIZE objects each.
+//
+public abstract class StripedAltPool<T extends Poolable> extends AltPool<T> {
+
+	public static final int BATCH_SIZE = 32;
+
+	private static final class Batch {
+		final Object[] items; // always full
+		Batch next;
+
+		Batch(Object[] items) {
+			this.items = items;
+		}
+	}
+
+	private static final class Cache {
+		Object[] loaded = new Object[BATCH_SIZE];
+		Object[] previous = new Object[BATCH_SIZE];
+		int loadedSize;
+		int previousSize;
+		int generation;
+
+		Cache(int generation) {
+			this.generation = generation;
+		}
+
+		void swap() {
+			Object[] items = loaded;
+			loaded = previous;
+			previous = items;
+
+			int size = loadedSize;
+			loadedSize = previousSize;
+			previousSize = size;
+		}
+
+		void clear() {
+			Arrays.fill(loaded, 0, loadedSize, null);
+			Arrays.fill(previous, 0, previousSize, null);
+			loadedSize = 0;
+			previousSize = 0;
+		}
+	}
+
+	private final AtomicReference<Batch> sharedBatches = new AtomicReference<Batch>();
+	private final AtomicInteger createdCount = new AtomicInteger();
+	private final AtomicInteger droppedCount = new AtomicInteger(); // cleared or broken away
+	private final AtomicInteger looseCount = new AtomicInteger();
+	private final AtomicInteger peakFreeCount = new AtomicInteger();
+	private final AtomicInteger peakLooseCount = new AtomicInteger();
+	private volatile int generation;
+
+	private final ThreadLocal<Cache> caches = new ThreadLocal<Cache>() {
+		@Override
+		protected Cache initialValue() {
+			return new Cache(generation);
+		}
+	};
+
+	public StripedAltPool(Class<T> pooledType) {
+		this(pooledType, DEFAULT_CAPACITY);
+	}
+
+	public StripedAltPool(Class<T> pooledType, int initialCapacity) {
+		super(pooledType, 0);
+		reserve(initialCapacity);
+	}
+
+	@Override
+	public void reserve(int capacity) {
+		if (capacity <= 0)
+			return; // also guards the call from the base constructor, before our fields are set
+
+		Cache cache = getCache();
+		while (getFree() < capacity) {
+			createdCount.incrementAndGet();
+			push(cache, newObject());
+		}
+	}
+
+	@Override
+	public int getFree() {
+		return createdCount.get() - looseCount.get() - droppedCount.get();
+	}
+
+	@Override
+	public int getLoose() {
+		return looseCount.get();
+	}
+
+	@Override
+	public int getPeakFree() {
+		return peakFreeCount.get();
+	}
+
+	@Override
+	public int getPeakLoose() {
+		return peakLooseCount.get();
+	}
+
+	@Override
+	public void breakAway(T object) {
+		if (object != null) {
+			if (object instanceof PoolItem) {
+				PoolItem poolItem = (PoolItem) object;
+				Object pool = poolItem.getPool();
+
+				if (pool == null) {
+					ArgCheck.fail("Can't break away object of type '%s', it's not attached to any pool",
+							object.getClass().getSimpleName());
+				} else if (pool != this) {
+					ArgCheck.fail("Can't break away object of type '%s', it's from a different pool",
+							object.getClass().getSimpleName());
+				}
+
+				poolItem.setPool(null);
+			}
+
+			droppedCount.incrementAndGet();
+			Assert.check(looseCount.decrementAndGet() >= 0);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T obtain() {
+		if (!obtainedSinceTrim)
+			obtainedSinceTrim = true;
+		raise(peakLooseCount, looseCount.incrementAndGet());
+
+		T object = (T) poll(getCache());
+		if (object == null) {
+			createdCount.incrementAndGet();
+			object = newObject();
+		}
+
+		if (object instanceof PoolItem)
+			((PoolItem) object).setPool(this);
+
+		return object;
+	}
+
+	@Override
+	public void free(T object) {
+		if (object != null) {
+			if (object instanceof PoolItem) {
+				PoolItem poolItem = (PoolItem) object;
+				Object pool = poolItem.getPool();
+
+				if (pool == null) {
+					ArgCheck.fail("Can't recycle object of type '%s', already returned to pool",
+							object.getClass().getSimpleName());
+				} else if (pool != this) {
+					ArgCheck.fail("Can't recycle object of type '%s', it's from a different pool",
+							object.getClass().getSimpleName());
+				}
+
+				poolItem.setPool(null);
+			}
+
+			object.reset();
+
+			int maxFree = getTrimPolicy().maxFree;
+			if (maxFree != Integer.MAX_VALUE && getFree() >= maxFree) {
+				droppedCount.incrementAndGet();
+				countReleased(1);
+				Assert.check(looseCount.decrementAndGet() >= 0);
+				return;
+			}
+
+			push(getCache(), object);
+
+			int loose = looseCount.decrementAndGet();
+			Assert.check(loose >= 0);
+			raise(peakFreeCount, createdCount.get() - loose - droppedCount.get());
+		}
+	}
+
+	@Override
+	public void freeAll(Array<T> objects) {
+		freeAll((Iterable<T>) objects);
+	}
+
+	@Override
+	public void freeAll(Iterable<T> objects) {
+		for (T object : objects) {
+			free(object);
+		}
+	}
+
+	@Override
+	public void clear() {
+		generation++; // other caches drop their content on next access
+		getCache();
+		sharedBatches.set(null);
+
+		droppedCount.addAndGet(getFree());
+		peakFreeCount.set(0);
+		peakLooseCount.set(looseCount.get());
+	}
+
+	@Override
+	public int trimFree(int count) {
+		int released = 0;
+		while (count - released >= BATCH_SIZE && popBatch() != null) {
+			released += BATCH_SIZE;
+		}
+
+		Cache cache = getCache();
+		while (released < count && poll(cache) != null) {
+			released++;
+		}
+
+		droppedCount.addAndGet(released);
+		countReleased(released);
+		return released;
+	}
+
+	@Override
+	public void resetPeakStats() {
+		peakFreeCount.set(0);
+		peakLooseCount.set(looseCount.get());
+	}
+
+	private Cache getCache() {
+		Cache cache = caches.get();
+
+		int generation = this.generation;
+		if (cache.generation != generation) {
+			cache.clear();
+			cache.generation = generation;
+		}
+		return cache;
+	}
+
+	private Object poll(Cache cache) {
+		if (cache.loadedSize == 0) {
+			if (cache.previousSize > 0) {
+				cache.swap();
+			} else {
+				Batch batch = popBatch();
+				if (batch == null)
+					return null;
+
+				// keep the empty magazine, drop the one in reserve
+				cache.previous = cache.loaded;
+				cache.loaded = batch.items;
+				cache.loadedSize = BATCH_SIZE;
+			}
+		}
+
+		Object object = cache.loaded[--cache.loadedSize];
+		cache.loaded[cache.loadedSize] = null;
+		return object;
+	}
+
+	private void push(Cache cache, Object object) {
+		if (cache.loadedSize == BATCH_SIZE) {
+			if (cache.previousSize == 0) {
+				cache.swap();
+			} else {
+				// both magazines are full, share one
+				pushBatch(new Batch(cache.previous));
+				cache.previous = cache.loaded;
+				cache.previousSize = BATCH_SIZE;
+				cache.loaded = new Object[BATCH_SIZE];
+				cache.loadedSize = 0;
+			}
+		}
+
+		cache.loaded[cache.loadedSize++] = object;
+	}
+
+	// Treiber stack; batches are never pushed twice, so there is no ABA hazard
+	private void pushBatch(Batch batch) {
+		Batch top;
+		do {
+			top = sharedBatches.get();
+			batch.next = top;
+		} while (!sharedBatches.compareAndSet(top, batch));
+	}
+
+	private Batch popBatch() {
+		Batch top;
+		do {
+			top = sharedBatches.get();
+			if (top == null)
+				return null;
+		} while (!sharedBatches.compareAndSet(top, top.next));
+		return top;
+	}
+
+	private static void raise(AtomicInteger peak, int value) {
+		int current;
+		while (value > (current = peak.get())) {
+			if (peak.compareAndSet(current, value))
+				break;
+		}
+	}
+}
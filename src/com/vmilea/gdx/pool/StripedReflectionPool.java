@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.pool;
+
+import com.badlogic.gdx.utils.Pool.Poolable;
+import com.badlogic.gdx.utils.reflect.Constructor;
+
+// Lock-free counterpart of AltReflectionPool.
+//
+public class StripedReflectionPool<T extends Poolable> extends StripedAltPool<T> {
+
+	private final Constructor constructor;
+	
+	public StripedReflectionPool(Class<T> pooledType) {
+		this(pooledType, DEFAULT_CAPACITY);
+	}
+	
+	public StripedReflectionPool(Class<T> pooledType, int initialCapacity) {
+		super(pooledType, 0);
+		constructor = AltReflectionPool.findConstructor(pooledType);
+		reserve(initialCapacity);
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Override
+	protected T newObject() {
+		return (T) AltReflectionPool.newInstance(constructor);
+	}
+}
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright 2014 Valentin Milea <valentin.milea@gmail.com>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.vmilea.gdx.pool;
+
+import com.vmilea.util.ArgCheck;
+
+// Bounds on how many free objects a pool holds on to after a burst. maxFree is enforced by
+// free(); the average & idle rules are applied by AltPool.trim(), usually through trimAll()
+// once per frame.
+//
+public final class TrimPolicy {
+
+	public static final TrimPolicy NONE = new TrimPolicy(Integer.MAX_VALUE, 0, 0);
+
+	public final int maxFree; // objects freed beyond this are dropped
+	public final float averageWindow; // seconds; free count decays toward the average loose count, 0 disables
+	public final float idleDelay; // seconds without obtain() before all free objects go, 0 disables
+
+	public TrimPolicy(int maxFree, float averageWindow, float idleDelay) {
+		ArgCheck.check(maxFree >= 0, "maxFree must be >= 0");
+		ArgCheck.check(averageWindow >= 0, "averageWindow must be >= 0");
+		ArgCheck.check(idleDelay >= 0, "idleDelay must be >= 0");
+
+		this.maxFree = maxFree;
+		this.averageWindow = averageWindow;
+		this.idleDelay = idleDelay;
+	}
+
+	public static TrimPolicy maxFree(int maxFree) {
+		return new TrimPolicy(maxFree, 0, 0);
+	}
+
+	public TrimPolicy withAverageWindow(float averageWindow) {
+		return new TrimPolicy(maxFree, averageWindow, idleDelay);
+	}
+
+	public TrimPolicy withIdleDelay(float idleDelay) {
+		return new TrimPolicy(maxFree, averageWindow, idleDelay);
+	}
+}